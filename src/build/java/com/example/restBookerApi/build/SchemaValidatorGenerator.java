@@ -0,0 +1,276 @@
+package com.example.restBookerApi.build;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+// Runs in generate-test-sources (single-file source launch, see pom.xml) and writes one validator class per schema in
+// src/test/resources. A schema that uses a keyword outside SUPPORTED_KEYWORDS gets no class and stays with the
+// generic validator at runtime.
+public final class SchemaValidatorGenerator {
+    private static final String PACKAGE = "com.example.restBookerApi.utis.validation.generated";
+    private static final String REGISTRY = "GeneratedSchemaValidators";
+    private static final Set<String> SUPPORTED_KEYWORDS =
+            Set.of("$schema", "title", "description", "type", "properties", "required", "items");
+    private static final Set<String> ANNOTATIONS = Set.of("$schema", "title", "description", "type");
+    private static final Map<String, String> TYPE_CHECKS = Map.of(
+            "object", "isObject()",
+            "array", "isArray()",
+            "string", "isTextual()",
+            "integer", "isIntegralNumber()",
+            "number", "isNumber()",
+            "boolean", "isBoolean()",
+            "null", "isNull()");
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws IOException {
+        Path schemaDirectory = Path.of(args[0]);
+        Path packageDirectory = Path.of(args[1]).resolve(PACKAGE.replace('.', '/'));
+        Files.createDirectories(packageDirectory);
+
+        List<Path> schemaFiles;
+        try (Stream<Path> files = Files.list(schemaDirectory)) {
+            schemaFiles = files.filter(file -> file.getFileName().toString().endsWith("Schema.json")).sorted().toList();
+        }
+        Map<String, String> registry = new TreeMap<>();
+        Set<String> written = new HashSet<>();
+        for (Path schemaFile : schemaFiles) {
+            String fileName = schemaFile.getFileName().toString();
+            JsonNode schema = MAPPER.readTree(schemaFile.toFile());
+            String unsupported = unsupportedKeyword(schema, "#");
+            if (unsupported != null) {
+                System.out.println("[schema-validators] " + fileName + " uses " + unsupported
+                        + ", it is validated by the generic validator");
+                continue;
+            }
+            String className = Character.toUpperCase(fileName.charAt(0))
+                    + fileName.substring(1, fileName.length() - ".json".length()) + "Validator";
+            writeIfChanged(packageDirectory.resolve(className + ".java"), new ValidatorClass(fileName, className, schema).source());
+            written.add(className + ".java");
+            registry.put(fileName, className + "::matches");
+            if (schema.has("items")) {
+                registry.put(fileName + "#/items", className + "::matchesItem");
+            }
+        }
+        writeIfChanged(packageDirectory.resolve(REGISTRY + ".java"), registrySource(registry));
+        written.add(REGISTRY + ".java");
+        try (Stream<Path> files = Files.list(packageDirectory)) {
+            for (Path stale : files.filter(file -> !written.contains(file.getFileName().toString())).toList()) {
+                Files.delete(stale);
+            }
+        }
+        System.out.println("[schema-validators] generated " + (written.size() - 1) + " validators in " + packageDirectory);
+    }
+
+    private static String unsupportedKeyword(JsonNode schema, String pointer) {
+        if (!schema.isObject()) {
+            return pointer + " (not an object)";
+        }
+        for (Iterator<String> names = schema.fieldNames(); names.hasNext(); ) {
+            String name = names.next();
+            if (!SUPPORTED_KEYWORDS.contains(name)) {
+                return pointer + "/" + name;
+            }
+        }
+        for (String type : types(schema)) {
+            if (!TYPE_CHECKS.containsKey(type)) {
+                return pointer + "/type " + type;
+            }
+        }
+        if (schema.has("items") && !schema.get("items").isObject()) {
+            return pointer + "/items (tuple form)";
+        }
+        for (Iterator<Map.Entry<String, JsonNode>> properties = schema.path("properties").fields(); properties.hasNext(); ) {
+            Map.Entry<String, JsonNode> property = properties.next();
+            String nested = unsupportedKeyword(property.getValue(), pointer + "/properties/" + property.getKey());
+            if (nested != null) {
+                return nested;
+            }
+        }
+        return schema.has("items") ? unsupportedKeyword(schema.get("items"), pointer + "/items") : null;
+    }
+
+    private static List<String> types(JsonNode schema) {
+        List<String> types = new ArrayList<>();
+        JsonNode type = schema.path("type");
+        if (type.isTextual()) {
+            types.add(type.asText());
+        } else {
+            type.forEach(value -> types.add(value.asText()));
+        }
+        return types;
+    }
+
+    private static String registrySource(Map<String, String> registry) {
+        StringBuilder source = new StringBuilder()
+                .append("// Generated by SchemaValidatorGenerator, do not edit.\n")
+                .append("package ").append(PACKAGE).append(";\n\n")
+                .append("import com.example.restBookerApi.utis.validation.SchemaValidator;\n\n")
+                .append("import java.util.Map;\n\n")
+                .append("public final class ").append(REGISTRY).append(" {\n")
+                .append("    private static final Map<String, SchemaValidator> VALIDATORS = Map.ofEntries(");
+        String separator = "\n";
+        for (Map.Entry<String, String> entry : registry.entrySet()) {
+            source.append(separator).append("            Map.entry(").append(literal(entry.getKey())).append(", ")
+                    .append(entry.getValue()).append(")");
+            separator = ",\n";
+        }
+        return source.append(");\n\n")
+                .append("    private ").append(REGISTRY).append("() {\n    }\n\n")
+                .append("    public static SchemaValidator forSchema(String schemaKey) {\n")
+                .append("        return VALIDATORS.get(schemaKey);\n")
+                .append("    }\n")
+                .append("}\n")
+                .toString();
+    }
+
+    private static void writeIfChanged(Path file, String source) throws IOException {
+        // unchanged files keep their timestamp, so the compiler does not rebuild them
+        if (Files.exists(file) && Files.readString(file, StandardCharsets.UTF_8).equals(source)) {
+            return;
+        }
+        Files.writeString(file, source, StandardCharsets.UTF_8);
+    }
+
+    private static String literal(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static final class ValidatorClass {
+        private final String schemaFileName;
+        private final String className;
+        private final JsonNode schema;
+        private final StringBuilder methods = new StringBuilder();
+        private final Set<String> methodNames = new LinkedHashSet<>();
+
+        private ValidatorClass(String schemaFileName, String className, JsonNode schema) {
+            this.schemaFileName = schemaFileName;
+            this.className = className;
+            this.schema = schema;
+        }
+
+        private String source() {
+            method("matches", schema, true);
+            if (schema.has("items") && !methodNames.contains("matchesItem")) {
+                method("matchesItem", schema.get("items"), true);
+            }
+            return "// Generated from " + schemaFileName + " by SchemaValidatorGenerator, do not edit.\n"
+                    + "package " + PACKAGE + ";\n\n"
+                    + "import com.fasterxml.jackson.databind.JsonNode;\n\n"
+                    + "public final class " + className + " {\n\n"
+                    + "    private " + className + "() {\n    }\n"
+                    + methods
+                    + "}\n";
+        }
+
+        private void method(String name, JsonNode subschema, boolean isPublic) {
+            methodNames.add(name);
+            StringBuilder body = new StringBuilder();
+            List<String> types = types(subschema);
+            if (!types.isEmpty()) {
+                body.append("        if (!(").append(typeCondition("node", types)).append(")) {\n")
+                        .append("            return false;\n")
+                        .append("        }\n");
+            }
+            boolean onlyObject = types.equals(List.of("object"));
+            boolean onlyArray = types.equals(List.of("array"));
+            if (subschema.has("properties") || subschema.has("required")) {
+                String indent = onlyObject ? "        " : "            ";
+                if (!onlyObject) {
+                    body.append("        if (node.isObject()) {\n");
+                }
+                body.append(indent).append("JsonNode value;\n");
+                Set<String> required = new LinkedHashSet<>();
+                subschema.path("required").forEach(field -> required.add(field.asText()));
+                Set<String> checked = new LinkedHashSet<>(required);
+                subschema.path("properties").fieldNames().forEachRemaining(checked::add);
+                for (String field : checked) {
+                    body.append(indent).append("value = node.get(").append(literal(field)).append(");\n");
+                    JsonNode propertySchema = subschema.path("properties").get(field);
+                    String check = propertySchema == null ? null : valueCheck(name, field, propertySchema);
+                    if (required.contains(field)) {
+                        body.append(indent).append("if (value == null").append(check == null ? "" : " || !(" + check + ")")
+                                .append(") {\n");
+                    } else if (check != null) {
+                        body.append(indent).append("if (value != null && !(").append(check).append(")) {\n");
+                    } else {
+                        continue;
+                    }
+                    body.append(indent).append("    return false;\n").append(indent).append("}\n");
+                }
+                if (!onlyObject) {
+                    body.append("        }\n");
+                }
+            }
+            if (subschema.has("items")) {
+                String itemMethod = name.equals("matches") ? "matchesItem" : name + "Item";
+                method(itemMethod, subschema.get("items"), name.equals("matches"));
+                String indent = onlyArray ? "        " : "            ";
+                if (!onlyArray) {
+                    body.append("        if (node.isArray()) {\n");
+                }
+                body.append(indent).append("for (JsonNode item : node) {\n")
+                        .append(indent).append("    if (!").append(itemMethod).append("(item)) {\n")
+                        .append(indent).append("        return false;\n")
+                        .append(indent).append("    }\n")
+                        .append(indent).append("}\n");
+                if (!onlyArray) {
+                    body.append("        }\n");
+                }
+            }
+            body.append("        return true;\n");
+            methods.append("\n    ").append(isPublic ? "public" : "private").append(" static boolean ").append(name)
+                    .append("(JsonNode node) {\n").append(body).append("    }\n");
+        }
+
+        // a property that only constrains its type is checked inline, anything else gets its own method
+        private String valueCheck(String parent, String field, JsonNode propertySchema) {
+            boolean typeOnly = true;
+            for (Iterator<String> names = propertySchema.fieldNames(); names.hasNext(); ) {
+                typeOnly &= ANNOTATIONS.contains(names.next());
+            }
+            if (typeOnly) {
+                List<String> types = types(propertySchema);
+                return types.isEmpty() ? null : typeCondition("value", types);
+            }
+            String method = parent + javaName(field);
+            method(method, propertySchema, false);
+            return method + "(value)";
+        }
+
+        private static String typeCondition(String variable, List<String> types) {
+            List<String> checks = new ArrayList<>();
+            for (String type : types) {
+                checks.add(variable + "." + TYPE_CHECKS.get(type));
+            }
+            return String.join(" || ", checks);
+        }
+
+        private static String javaName(String field) {
+            StringBuilder name = new StringBuilder();
+            boolean upper = true;
+            for (char c : field.toCharArray()) {
+                if (Character.isLetterOrDigit(c)) {
+                    name.append(upper ? Character.toUpperCase(c) : c);
+                    upper = false;
+                } else {
+                    upper = true;
+                }
+            }
+            return name.toString();
+        }
+    }
+}
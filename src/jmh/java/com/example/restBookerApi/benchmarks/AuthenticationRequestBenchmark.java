@@ -0,0 +1,30 @@
+package com.example.restBookerApi.benchmarks;
+
+import com.example.restBookerApi.utis.authentication.AuthenticationRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthenticationRequestBenchmark {
+    private final String username = "admin";
+    private final String password = "password123";
+
+    @Benchmark
+    public String buildAndSerializeAuthenticationBody() {
+        return new AuthenticationRequest(username, password).requestBody.toString();
+    }
+}
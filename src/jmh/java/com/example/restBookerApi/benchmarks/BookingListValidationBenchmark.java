@@ -0,0 +1,65 @@
+package com.example.restBookerApi.benchmarks;
+
+import com.example.restBookerApi.utis.validation.ResponseValidation;
+import com.example.restBookerApi.utis.validation.SchemaCache;
+import com.example.restBookerApi.utis.validation.StreamedArray;
+import com.example.restBookerApi.utis.validation.ValidatedResponse;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingListValidationBenchmark {
+    @Param({"1000", "100000"})
+    private int bookings;
+
+    private ResponseValidation validation;
+    private Response bookingList;
+
+    @Setup
+    public void setUp() {
+        validation = new ResponseValidation();
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 1; i <= bookings; i++) {
+            body.append(i > 1 ? "," : "").append("{\"bookingid\":").append(i).append('}');
+        }
+        bookingList = new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType(ContentType.JSON)
+                .setBody(body.append(']').toString())
+                .build();
+    }
+
+    @Benchmark
+    public int treeSchemaAndCount() {
+        ValidatedResponse response = ValidatedResponse.of(bookingList);
+        if (!SchemaCache.getInstance().matches("getBookingResponseSchema.json", response.body())) {
+            throw new AssertionError();
+        }
+        return response.body().size();
+    }
+
+    @Benchmark
+    public int streamedSchemaCountAndIds() {
+        StreamedArray array = validation.validateResponseBodyArraySchema(bookingList, "getBooking");
+        return array.count() + array.ids().size();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.restBookerApi.benchmarks;
+
+import com.example.restBookerApi.utis.requestbodies.BookingDates;
+import com.example.restBookerApi.utis.requestbodies.BookingRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingRequestBenchmark {
+    private final BookingDates bookingDates = new BookingDates("2018-01-01", "2019-01-01");
+    private final BookingRequest booking = fullBooking();
+
+    @Benchmark
+    public BookingRequest buildFullBooking() {
+        return fullBooking();
+    }
+
+    @Benchmark
+    public BookingRequest buildPartialBooking() {
+        return new BookingRequest.Builder()
+                .setFirstName("Albert")
+                .setLastName("Einstein")
+                .build();
+    }
+
+    @Benchmark
+    public String serializeBookingTree() {
+        return booking.toJSONObject().toString();
+    }
+
+    @Benchmark
+    public byte[] buildAndSerializeFullBooking() {
+        return fullBooking().toJsonBytes();
+    }
+
+    @Benchmark
+    public byte[] buildAndSerializeFullBookingTree() {
+        return fullBooking().toJSONObject().toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private BookingRequest fullBooking() {
+        return new BookingRequest.Builder()
+                .setFirstName("John")
+                .setLastName("Dough")
+                .setTotalPrice(111)
+                .setDepositPaid(true)
+                .setBookingDates(bookingDates)
+                .setAdditionalNeeds("Breakfast")
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.restBookerApi.benchmarks;
+
+import com.example.restBookerApi.utis.validation.ResponseValidation;
+import com.example.restBookerApi.utis.validation.SchemaCache;
+import com.example.restBookerApi.utis.validation.SchemaValidator;
+import com.example.restBookerApi.utis.validation.generated.GeneratedSchemaValidators;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.main.JsonSchema;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaValidationBenchmark {
+    private static final String BOOKING = "{\"firstname\":\"John\",\"lastname\":\"Dough\",\"totalprice\":111,"
+            + "\"depositpaid\":true,\"bookingdates\":{\"checkin\":\"2018-01-01\",\"checkout\":\"2019-01-01\"},"
+            + "\"additionalneeds\":\"Breakfast\"}";
+    private static final Map<String, String> CANNED_BODIES = Map.of(
+            "createToken", "{\"token\":\"abc123def456789\"}",
+            "createBooking", "{\"bookingid\":1,\"booking\":" + BOOKING + "}",
+            "getBookingById", BOOKING,
+            "getBooking", "[{\"bookingid\":1},{\"bookingid\":2},{\"bookingid\":3}]",
+            "updateBooking", BOOKING,
+            "partialUpdateBooking", BOOKING);
+    private static final Map<String, String> SCHEMA_FILES = Map.of(
+            "createToken", "createTokenResponseSchema.json",
+            "createBooking", "createBookingResponseSchema.json",
+            "getBookingById", "getBookingByIdResponseSchema.json",
+            "getBooking", "getBookingResponseSchema.json",
+            "updateBooking", "updateBookingRequestSchema.json",
+            "partialUpdateBooking", "partialUpdateBookingRequestSchema.json");
+
+    @Param({"createToken", "createBooking", "getBookingById", "getBooking", "updateBooking", "partialUpdateBooking"})
+    public String responseType;
+
+    private ResponseValidation validation;
+    private Response response;
+    private JsonNode body;
+    private SchemaValidator generated;
+    private JsonSchema generic;
+
+    @Setup
+    public void setUp() throws IOException {
+        validation = new ResponseValidation();
+        response = new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType(ContentType.JSON)
+                .setBody(CANNED_BODIES.get(responseType))
+                .build();
+        body = JsonLoader.fromString(CANNED_BODIES.get(responseType));
+        generated = GeneratedSchemaValidators.forSchema(SCHEMA_FILES.get(responseType));
+        generic = SchemaCache.getInstance().getSchema(SCHEMA_FILES.get(responseType));
+    }
+
+    @Benchmark
+    public Response validateResponseBodySchema() {
+        validation.validateResponseBodySchema(response, responseType);
+        return response;
+    }
+
+    @Benchmark
+    public boolean generatedValidator() {
+        return generated.matches(body);
+    }
+
+    @Benchmark
+    public boolean genericValidator() throws ProcessingException {
+        return generic.validate(body).isSuccess();
+    }
+}
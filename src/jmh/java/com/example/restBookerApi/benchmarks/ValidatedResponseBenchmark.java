@@ -0,0 +1,88 @@
+package com.example.restBookerApi.benchmarks;
+
+import com.example.restBookerApi.utis.validation.ResponseValidation;
+import com.example.restBookerApi.utis.validation.SchemaCache;
+import com.example.restBookerApi.utis.validation.ValidatedResponse;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidatedResponseBenchmark {
+    private static final String INVALID_DATES_BODY =
+            "{\"checkin\":\"^\\\\d{4}-\\\\d{2}-\\\\d{2}$\",\"checkout\":\"^\\\\d{4}-\\\\d{2}-\\\\d{2}$\"}";
+    private static final String CREATE_BOOKING_BODY = "{\"bookingid\":1,\"booking\":{\"firstname\":\"John\","
+            + "\"lastname\":\"Dough\",\"totalprice\":111,\"depositpaid\":true,\"bookingdates\":"
+            + "{\"checkin\":\"2018-01-01\",\"checkout\":\"2019-01-01\"},\"additionalneeds\":\"Breakfast\"}}";
+
+    private ResponseValidation validation;
+    private Response invalidDates;
+    private Response createdBooking;
+
+    @Setup
+    public void setUp() {
+        validation = new ResponseValidation();
+        invalidDates = cannedResponse(400, INVALID_DATES_BODY);
+        createdBooking = cannedResponse(200, CREATE_BOOKING_BODY);
+    }
+
+    @Benchmark
+    public String createdBookingParsedPerCheck() {
+        String bookingId = createdBooking.jsonPath().getString("bookingid");
+        validation.validateResponseHeaders(createdBooking);
+        validation.validateResponseStatusCode(createdBooking, 200);
+        if (!SchemaCache.getInstance().matches("createBookingResponseSchema.json", createdBooking.asString())) {
+            throw new AssertionError();
+        }
+        return bookingId;
+    }
+
+    @Benchmark
+    public String createdBookingParsedOnce() {
+        ValidatedResponse validated = ValidatedResponse.of(createdBooking);
+        validation.check(validated).headers().statusCode(200).schema("createBooking").verify();
+        return validated.getString("bookingid");
+    }
+
+    @Benchmark
+    public Response invalidDatesParsedPerCheck() {
+        validation.validateResponseStatusCode(invalidDates, 400);
+        validation.validateResponseDatePropertyFormat(invalidDates, "checkin");
+        validation.validateResponseDatePropertyFormat(invalidDates, "checkout");
+        return invalidDates;
+    }
+
+    @Benchmark
+    public ValidatedResponse invalidDatesParsedOnce() {
+        return validation.check(invalidDates)
+                .statusCode(400)
+                .datePropertyFormat("checkin")
+                .datePropertyFormat("checkout")
+                .verify();
+    }
+
+    private static Response cannedResponse(int statusCode, String body) {
+        return new ResponseBuilder()
+                .setStatusCode(statusCode)
+                .setContentType(ContentType.JSON)
+                .setBody(body)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.restBookerApi.steps;
+
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestSpecBenchmark {
+    private final String body = "{\"firstname\":\"Albert\",\"lastname\":\"Einstein\"}";
+
+    @Benchmark
+    public RequestSpecification requestSpecWithAuth() {
+        return ApiConfig.requestSpec(body, true);
+    }
+
+    @Benchmark
+    public RequestSpecification requestSpecWithoutAuth() {
+        return ApiConfig.requestSpec(body, false);
+    }
+
+    @Benchmark
+    public RequestSpecification requestSpecWithoutBody() {
+        return ApiConfig.requestSpec(null, true);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.restBookerApi.load;
+
+import com.example.restBookerApi.steps.AsyncApiConfig;
+import com.example.restBookerApi.steps.AsyncApiRequests;
+import com.example.restBookerApi.stub.RestfulBookerStub;
+import com.example.restBookerApi.utis.metrics.LatencyMetrics;
+import com.example.restBookerApi.utis.metrics.LatencyReport;
+import com.example.restBookerApi.utis.requestbodies.BookingDates;
+import com.example.restBookerApi.utis.requestbodies.BookingRequest;
+import com.example.restBookerApi.utis.sharding.ShardSettings;
+import com.example.restBookerApi.utis.validation.ValidatedResponse;
+import io.restassured.response.Response;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+// fires every booking lifecycle at once through AsyncApiRequests, the in-flight limiter queues what does not fit
+public class AsyncBurst {
+    private static final Logger LOGGER = Logger.getLogger("Restful-booker async burst");
+    private final int bookings;
+    private final ShardSettings shard = ShardSettings.fromSystemProperties();
+    private final BookingRequest request;
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private long elapsedNanos;
+
+    public AsyncBurst(int bookings) {
+        this.bookings = bookings;
+        this.request = new BookingRequest.Builder()
+                .setFirstName(shard.name("Async"))
+                .setLastName("Booking")
+                .setTotalPrice(111)
+                .setDepositPaid(true)
+                .setBookingDates(new BookingDates("2018-01-01", "2019-01-01"))
+                .setAdditionalNeeds("Breakfast")
+                .build();
+    }
+
+    public static void main(String[] args) {
+        int bookings = Integer.getInteger("restBooker.asyncBurst.bookings", 200);
+        LOGGER.info(() -> String.format("Starting async burst: %d booking lifecycles", bookings));
+        AsyncBurst burst = new AsyncBurst(bookings);
+        try {
+            burst.run();
+        } finally {
+            RestfulBookerStub.stopShared();
+        }
+        burst.printSummary(System.out);
+        LatencyReport report = LatencyReport.of(LatencyMetrics.getInstance());
+        report.print(System.out);
+        report.write(Path.of(LatencyReport.REPORT_FILE));
+    }
+
+    public void run() {
+        long start = System.nanoTime();
+        List<CompletableFuture<Response>> lifecycles = new ArrayList<>();
+        for (int i = 0; i < bookings; i++) {
+            if (shard.owns(i)) {
+                lifecycles.add(lifecycle().whenComplete((deleted, error) -> {
+                    if (error == null && deleted.statusCode() == 201) {
+                        completed.increment();
+                    } else {
+                        failed.increment();
+                    }
+                }));
+            }
+        }
+        CompletableFuture.allOf(lifecycles.toArray(CompletableFuture[]::new))
+                .exceptionally(error -> null)
+                .join();
+        elapsedNanos = System.nanoTime() - start;
+    }
+
+    private CompletableFuture<Response> lifecycle() {
+        return AsyncApiRequests.createBooking(request)
+                .thenCompose(created -> {
+                    String bookingId = ValidatedResponse.of(created).getString("bookingid");
+                    return AsyncApiRequests.getBookingById(bookingId)
+                            .thenCompose(booking -> AsyncApiRequests.deleteBooking(bookingId));
+                });
+    }
+
+    public void printSummary(PrintStream out) {
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        out.printf("%d lifecycles completed, %d failed in %.1f s (%.1f lifecycles/s)%n", completed.sum(),
+                failed.sum(), elapsedSeconds, completed.sum() / elapsedSeconds);
+        out.println("In-flight limiter: " + AsyncApiConfig.limiterStats());
+    }
+}
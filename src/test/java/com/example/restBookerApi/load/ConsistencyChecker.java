@@ -0,0 +1,186 @@
+package com.example.restBookerApi.load;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+// every write sends a unique id, so each booking field is a register with unique values and the zone check of
+// Gibbons and Korach decides linearizability in O(n log n) instead of searching all orderings
+public final class ConsistencyChecker {
+    private static final int MAX_EXAMPLES = 10;
+    private final List<String> examples = new ArrayList<>();
+    private long origin;
+    private long nonLinearizableReads;
+    private long lostUpdates;
+    private long tornReads;
+
+    public static ConsistencyResult check(List<HistoryEntry> history) {
+        return new ConsistencyChecker().run(history);
+    }
+
+    private ConsistencyResult run(List<HistoryEntry> history) {
+        origin = history.stream().mapToLong(HistoryEntry::invokedAt).min().orElse(0);
+        Map<String, List<HistoryEntry>> byBooking = new LinkedHashMap<>();
+        long failed = 0;
+        for (HistoryEntry entry : history) {
+            byBooking.computeIfAbsent(entry.bookingId(), key -> new ArrayList<>()).add(entry);
+            if (entry.outcome() != HistoryEntry.Outcome.OK) {
+                failed++;
+            }
+        }
+        byBooking.forEach((bookingId, entries) -> {
+            checkRegister(bookingId, "firstname", entries, HistoryEntry::name);
+            checkRegister(bookingId, "totalprice", entries, HistoryEntry::price);
+            checkTornReads(bookingId, entries);
+        });
+        return new ConsistencyResult(history.size(), failed, nonLinearizableReads, lostUpdates, tornReads,
+                List.copyOf(examples));
+    }
+
+    private void checkRegister(String bookingId, String field, List<HistoryEntry> entries, ToLongFunction<HistoryEntry> value) {
+        Map<Long, HistoryEntry> writes = new HashMap<>();
+        Map<Long, Zone> clusters = new HashMap<>();
+        long lastAcknowledgedInvoke = Long.MIN_VALUE;
+        for (HistoryEntry entry : entries) {
+            if (entry.kind().isWrite() && value.applyAsLong(entry) >= 0 && entry.outcome() != HistoryEntry.Outcome.FAILED) {
+                long written = value.applyAsLong(entry);
+                writes.put(written, entry);
+                clusters.put(written, new Zone(written, entry.effectiveCompletedAt(), entry.invokedAt()));
+                if (entry.outcome() == HistoryEntry.Outcome.OK) {
+                    lastAcknowledgedInvoke = Math.max(lastAcknowledgedInvoke, entry.invokedAt());
+                }
+            }
+        }
+
+        for (HistoryEntry read : entries) {
+            if (read.outcome() != HistoryEntry.Outcome.OK || read.kind().isWrite()) {
+                continue;
+            }
+            long observed = value.applyAsLong(read);
+            HistoryEntry write = writes.get(observed);
+            if (write == null) {
+                nonLinearizableReads++;
+                example("booking %s %s: read %d at %s, a value that was never written", bookingId, field, observed,
+                        at(read.invokedAt()));
+            } else if (read.kind() == HistoryEntry.Kind.FINAL_READ) {
+                // every client has stopped, so the value must come from a write that nothing acknowledged followed
+                if (write.effectiveCompletedAt() < lastAcknowledgedInvoke) {
+                    lostUpdates++;
+                    example("booking %s %s: final value %d was written at %s, a later acknowledged write was lost",
+                            bookingId, field, observed, at(write.invokedAt()));
+                }
+            } else if (read.completedAt() < write.invokedAt()) {
+                nonLinearizableReads++;
+                example("booking %s %s: read %d at %s before that write was sent at %s", bookingId, field, observed,
+                        at(read.invokedAt()), at(write.invokedAt()));
+            } else {
+                clusters.get(observed).add(read);
+            }
+        }
+        checkZones(bookingId, field, clusters.values());
+    }
+
+    // forward zones must not overlap, and no backward zone may sit inside a forward zone
+    private void checkZones(String bookingId, String field, Iterable<Zone> clusters) {
+        List<Zone> forward = new ArrayList<>();
+        List<Zone> backward = new ArrayList<>();
+        for (Zone zone : clusters) {
+            (zone.isForward() ? forward : backward).add(zone);
+        }
+        forward.sort(Comparator.comparingLong(Zone::low));
+        long[] starts = new long[forward.size()];
+        Zone[] widest = new Zone[forward.size()];
+        Zone reaching = null;
+        for (int i = 0; i < forward.size(); i++) {
+            Zone zone = forward.get(i);
+            if (reaching != null && zone.low() < reaching.high()) {
+                nonLinearizableReads++;
+                example("booking %s %s: values %d and %d were both current during %s..%s", bookingId, field,
+                        reaching.value, zone.value, at(zone.low()), at(Math.min(zone.high(), reaching.high())));
+            }
+            if (reaching == null || zone.high() > reaching.high()) {
+                reaching = zone;
+            }
+            starts[i] = zone.low();
+            widest[i] = reaching;
+        }
+        for (Zone zone : backward) {
+            int index = Arrays.binarySearch(starts, zone.low());
+            index = index >= 0 ? index : -index - 2;
+            while (index + 1 < starts.length && starts[index + 1] == zone.low()) {
+                index++;
+            }
+            if (index >= 0 && widest[index].high() >= zone.high()) {
+                nonLinearizableReads++;
+                example("booking %s %s: write %d landed during %s..%s, while %d was still being read", bookingId, field,
+                        zone.value, at(widest[index].low()), at(widest[index].high()), widest[index].value);
+            }
+        }
+    }
+
+    // a write that sent both fields must be read back as a pair, never with the price of another write
+    private void checkTornReads(String bookingId, List<HistoryEntry> entries) {
+        Map<Long, Long> pricesByName = new HashMap<>();
+        for (HistoryEntry entry : entries) {
+            if (entry.kind().isWrite()) {
+                pricesByName.put(entry.name(), entry.price());
+            }
+        }
+        for (HistoryEntry read : entries) {
+            if (read.kind().isWrite() || read.outcome() != HistoryEntry.Outcome.OK) {
+                continue;
+            }
+            Long written = pricesByName.get(read.name());
+            if (written != null && written >= 0 && read.price() != written) {
+                tornReads++;
+                example("booking %s: read at %s shows firstname of write %d with totalprice of write %d", bookingId,
+                        at(read.invokedAt()), read.name(), read.price());
+            }
+        }
+    }
+
+    private void example(String format, Object... args) {
+        if (examples.size() < MAX_EXAMPLES) {
+            examples.add(String.format(format, args));
+        }
+    }
+
+    private String at(long nanos) {
+        return nanos == Long.MAX_VALUE ? "never" : String.format("+%.3f ms", (nanos - origin) / 1_000_000.0);
+    }
+
+    // earliest completion and latest invocation of the write and all reads of one value
+    private static final class Zone {
+        private final long value;
+        private long minCompleted;
+        private long maxInvoked;
+
+        Zone(long value, long completedAt, long invokedAt) {
+            this.value = value;
+            this.minCompleted = completedAt;
+            this.maxInvoked = invokedAt;
+        }
+
+        void add(HistoryEntry read) {
+            minCompleted = Math.min(minCompleted, read.completedAt());
+            maxInvoked = Math.max(maxInvoked, read.invokedAt());
+        }
+
+        boolean isForward() {
+            return minCompleted < maxInvoked;
+        }
+
+        long low() {
+            return Math.min(minCompleted, maxInvoked);
+        }
+
+        long high() {
+            return Math.max(minCompleted, maxInvoked);
+        }
+    }
+}
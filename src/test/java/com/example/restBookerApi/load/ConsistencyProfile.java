@@ -0,0 +1,37 @@
+package com.example.restBookerApi.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public record ConsistencyProfile(int bookings,
+                                 List<Integer> levels,
+                                 Duration stepDuration,
+                                 int readPercent) {
+
+    public static ConsistencyProfile fromSystemProperties() {
+        ConsistencyProfile profile = new ConsistencyProfile(
+                Integer.getInteger("restBooker.consistency.bookings", 4),
+                parseLevels(System.getProperty("restBooker.consistency.levels", "1,2,4,8,16,32,64")),
+                Duration.ofSeconds(Long.getLong("restBooker.consistency.stepSeconds", 5L)),
+                Integer.getInteger("restBooker.consistency.readPercent", 50));
+        if (profile.bookings() < 1 || profile.readPercent() < 0 || profile.readPercent() > 100) {
+            throw new IllegalArgumentException("Consistency runs need at least one booking and a read share of 0-100%");
+        }
+        return profile;
+    }
+
+    static List<Integer> parseLevels(String spec) {
+        List<Integer> levels = new ArrayList<>();
+        for (String level : spec.split(",")) {
+            if (!level.isBlank()) {
+                int clients = Integer.parseInt(level.trim());
+                if (clients < 1) {
+                    throw new IllegalArgumentException("Concurrency level must be at least 1: " + clients);
+                }
+                levels.add(clients);
+            }
+        }
+        return levels;
+    }
+}
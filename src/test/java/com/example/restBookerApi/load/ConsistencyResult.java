@@ -0,0 +1,15 @@
+package com.example.restBookerApi.load;
+
+import java.util.List;
+
+public record ConsistencyResult(long operations,
+                                long failed,
+                                long nonLinearizableReads,
+                                long lostUpdates,
+                                long tornReads,
+                                List<String> examples) {
+
+    public boolean isConsistent() {
+        return nonLinearizableReads == 0 && lostUpdates == 0 && tornReads == 0;
+    }
+}
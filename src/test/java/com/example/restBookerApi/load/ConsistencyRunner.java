@@ -0,0 +1,270 @@
+package com.example.restBookerApi.load;
+
+import com.example.restBookerApi.steps.ApiRequests;
+import com.example.restBookerApi.stub.RestfulBookerStub;
+import com.example.restBookerApi.utis.metrics.LatencyMetrics;
+import com.example.restBookerApi.utis.metrics.LatencyReport;
+import com.example.restBookerApi.utis.requestbodies.BookingDates;
+import com.example.restBookerApi.utis.requestbodies.BookingRequest;
+import com.example.restBookerApi.utis.validation.ValidatedResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.response.Response;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+public class ConsistencyRunner {
+    private static final Logger LOGGER = Logger.getLogger("Restful-booker consistency runner");
+    private static final String REPORT_FILE =
+            System.getProperty("restBooker.consistency.reportFile", "target/consistency-report.json");
+    private static final String NAME_PREFIX = "C";
+    private static final BookingDates DATES = new BookingDates("2018-01-01", "2019-01-01");
+    private final ConsistencyProfile profile;
+    private final AtomicLong writeIds = new AtomicLong();
+    private final List<Level> levels = new ArrayList<>();
+
+    public ConsistencyRunner(ConsistencyProfile profile) {
+        this.profile = profile;
+    }
+
+    public static void main(String[] args) {
+        ConsistencyProfile profile = ConsistencyProfile.fromSystemProperties();
+        LOGGER.info(() -> String.format("Starting consistency run: %d bookings, levels %s, %s per level, %d%% reads",
+                profile.bookings(), profile.levels(), profile.stepDuration(), profile.readPercent()));
+        ConsistencyRunner runner = new ConsistencyRunner(profile);
+        try {
+            runner.run();
+        } finally {
+            RestfulBookerStub.stopShared();
+        }
+        runner.printSummary(System.out);
+        runner.write(Path.of(REPORT_FILE));
+        LatencyReport report = LatencyReport.of(LatencyMetrics.getInstance());
+        report.print(System.out);
+        report.write(Path.of(LatencyReport.REPORT_FILE));
+    }
+
+    public void run() {
+        for (int clients : profile.levels()) {
+            Level level = runLevel(clients);
+            levels.add(level);
+            LOGGER.info(() -> String.format("%d clients: %.1f ops/s, %s", clients, level.throughput(),
+                    level.result().isConsistent() ? "consistent" : "INCONSISTENT"));
+        }
+    }
+
+    // every level starts from fresh bookings so anomalies from one level never leak into the next
+    private Level runLevel(int clients) {
+        List<HistoryEntry> history = new ArrayList<>();
+        List<String> bookingIds = new ArrayList<>();
+        for (int i = 0; i < profile.bookings(); i++) {
+            long id = writeIds.incrementAndGet();
+            HistoryEntry created = record(HistoryEntry.Kind.CREATE, null, id, id,
+                    () -> ApiRequests.createBooking(put(id)));
+            if (created.bookingId() != null) {
+                bookingIds.add(created.bookingId());
+                history.add(created);
+            }
+        }
+        if (bookingIds.isEmpty()) {
+            throw new IllegalStateException("Could not create any booking for the consistency run");
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + profile.stepDuration().toNanos();
+        List<Future<List<HistoryEntry>>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                workers.add(executor.submit(() -> runClient(bookingIds, deadline)));
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        for (Future<List<HistoryEntry>> worker : workers) {
+            history.addAll(worker.resultNow());
+        }
+        long operations = history.size() - bookingIds.size();
+        long[] latencies = history.stream()
+                .filter(entry -> entry.kind() != HistoryEntry.Kind.CREATE)
+                .mapToLong(entry -> entry.completedAt() - entry.invokedAt())
+                .sorted()
+                .toArray();
+
+        for (String bookingId : bookingIds) {
+            history.add(read(HistoryEntry.Kind.FINAL_READ, bookingId));
+        }
+        ConsistencyResult result = ConsistencyChecker.check(history);
+        bookingIds.forEach(ApiRequests::deleteBooking);
+        return new Level(clients, operations, elapsedNanos, percentile(latencies, 99), result);
+    }
+
+    private List<HistoryEntry> runClient(List<String> bookingIds, long deadline) {
+        List<HistoryEntry> history = new ArrayList<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            String bookingId = bookingIds.get(random.nextInt(bookingIds.size()));
+            int roll = random.nextInt(100);
+            if (roll < profile.readPercent()) {
+                history.add(read(HistoryEntry.Kind.READ, bookingId));
+            } else if (roll < profile.readPercent() + (100 - profile.readPercent()) / 2) {
+                long id = writeIds.incrementAndGet();
+                history.add(record(HistoryEntry.Kind.PUT, bookingId, id, id,
+                        () -> ApiRequests.updateBooking(bookingId, put(id))));
+            } else {
+                long id = writeIds.incrementAndGet();
+                history.add(record(HistoryEntry.Kind.PATCH, bookingId, id, id,
+                        () -> ApiRequests.partialUpdateBooking(bookingId, patch(id))));
+            }
+        }
+        return history;
+    }
+
+    private static HistoryEntry record(HistoryEntry.Kind kind, String bookingId, long name, long price,
+                                       Supplier<Response> call) {
+        long invokedAt = System.nanoTime();
+        Response response = null;
+        try {
+            response = call.get();
+        } catch (RuntimeException e) {
+            // the write may still have been applied, the outcome stays unknown
+        }
+        long completedAt = System.nanoTime();
+        if (kind == HistoryEntry.Kind.CREATE && response != null && response.statusCode() == 200) {
+            bookingId = ValidatedResponse.of(response).getString("bookingid");
+        }
+        return new HistoryEntry(kind, bookingId, name, price, invokedAt, completedAt, outcome(response));
+    }
+
+    private static HistoryEntry read(HistoryEntry.Kind kind, String bookingId) {
+        long invokedAt = System.nanoTime();
+        Response response = null;
+        try {
+            response = ApiRequests.getBookingById(bookingId);
+        } catch (RuntimeException e) {
+            // counted as a failed read below
+        }
+        long completedAt = System.nanoTime();
+        HistoryEntry.Outcome outcome = outcome(response);
+        long name = -1;
+        long price = -1;
+        if (outcome == HistoryEntry.Outcome.OK) {
+            JsonNode body = ValidatedResponse.of(response).body();
+            name = parseName(body.path("firstname").asText(""));
+            price = body.path("totalprice").asLong(-1);
+        }
+        return new HistoryEntry(kind, bookingId, name, price, invokedAt, completedAt,
+                outcome == HistoryEntry.Outcome.OK ? outcome : HistoryEntry.Outcome.FAILED);
+    }
+
+    private static HistoryEntry.Outcome outcome(Response response) {
+        if (response == null || response.statusCode() >= 500) {
+            return HistoryEntry.Outcome.UNKNOWN;
+        }
+        return response.statusCode() < 300 ? HistoryEntry.Outcome.OK : HistoryEntry.Outcome.FAILED;
+    }
+
+    private static BookingRequest put(long id) {
+        return new BookingRequest.Builder()
+                .setFirstName(NAME_PREFIX + id)
+                .setLastName("Consistency")
+                .setTotalPrice((int) id)
+                .setDepositPaid(true)
+                .setBookingDates(DATES)
+                .setAdditionalNeeds("Breakfast")
+                .build();
+    }
+
+    // the builder always serializes totalprice and depositpaid, so a PATCH writes the price as well
+    private static BookingRequest patch(long id) {
+        return new BookingRequest.Builder()
+                .setFirstName(NAME_PREFIX + id)
+                .setLastName("Consistency")
+                .setTotalPrice((int) id)
+                .setDepositPaid(true)
+                .build();
+    }
+
+    private static long parseName(String firstName) {
+        try {
+            return firstName.startsWith(NAME_PREFIX) ? Long.parseLong(firstName.substring(NAME_PREFIX.length())) : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    public void printSummary(PrintStream out) {
+        out.printf("%8s %10s %10s %9s %8s %16s %13s %11s  %s%n", "clients", "operations", "ops/s", "p99 ms", "failed",
+                "non-linearizable", "lost updates", "torn reads", "verdict");
+        Level firstInconsistent = null;
+        for (Level level : levels) {
+            ConsistencyResult result = level.result();
+            out.printf("%8d %10d %10.1f %9.2f %8d %16d %13d %11d  %s%n", level.clients(), level.operations(),
+                    level.throughput(), level.p99Ms(), result.failed(), result.nonLinearizableReads(),
+                    result.lostUpdates(), result.tornReads(), result.isConsistent() ? "ok" : "INCONSISTENT");
+            if (firstInconsistent == null && !result.isConsistent()) {
+                firstInconsistent = level;
+            }
+        }
+        if (firstInconsistent == null) {
+            out.printf("No inconsistent state observed up to %d clients%n",
+                    levels.stream().mapToInt(Level::clients).max().orElse(0));
+        } else {
+            out.printf("Inconsistent state from %d clients at %.1f ops/s, for example:%n", firstInconsistent.clients(),
+                    firstInconsistent.throughput());
+            firstInconsistent.result().examples().forEach(example -> out.println("  " + example));
+        }
+    }
+
+    public void write(Path file) {
+        JSONArray report = new JSONArray();
+        for (Level level : levels) {
+            ConsistencyResult result = level.result();
+            report.put(new JSONObject()
+                    .put("clients", level.clients())
+                    .put("operations", level.operations())
+                    .put("throughputPerSecond", level.throughput())
+                    .put("p99Ms", level.p99Ms())
+                    .put("failed", result.failed())
+                    .put("nonLinearizableReads", result.nonLinearizableReads())
+                    .put("lostUpdates", result.lostUpdates())
+                    .put("tornReads", result.tornReads())
+                    .put("examples", new JSONArray(result.examples())));
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, new JSONObject().put("levels", report).toString(2), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    record Level(int clients, long operations, long elapsedNanos, double p99Ms, ConsistencyResult result) {
+        double throughput() {
+            return elapsedNanos > 0 ? operations / (elapsedNanos / 1_000_000_000.0) : 0;
+        }
+    }
+}
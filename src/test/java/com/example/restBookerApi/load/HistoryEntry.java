@@ -0,0 +1,28 @@
+package com.example.restBookerApi.load;
+
+// name and price hold the write id a write sent or a read observed, -1 when the field is not part of the operation
+public record HistoryEntry(Kind kind,
+                           String bookingId,
+                           long name,
+                           long price,
+                           long invokedAt,
+                           long completedAt,
+                           Outcome outcome) {
+
+    public enum Kind {
+        CREATE, PUT, PATCH, READ, FINAL_READ;
+
+        boolean isWrite() {
+            return this == CREATE || this == PUT || this == PATCH;
+        }
+    }
+
+    // a write that failed with a 4xx never took effect, one without a usable response may have
+    public enum Outcome {
+        OK, FAILED, UNKNOWN
+    }
+
+    long effectiveCompletedAt() {
+        return outcome == Outcome.UNKNOWN ? Long.MAX_VALUE : completedAt;
+    }
+}
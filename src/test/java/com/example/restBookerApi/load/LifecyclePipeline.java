@@ -0,0 +1,151 @@
+package com.example.restBookerApi.load;
+
+import com.example.restBookerApi.stub.RestfulBookerStub;
+import com.example.restBookerApi.utis.metrics.LatencyMetrics;
+import com.example.restBookerApi.utis.metrics.LatencyReport;
+import com.example.restBookerApi.utis.sharding.ShardSettings;
+import io.restassured.response.Response;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class LifecyclePipeline {
+    private static final Logger LOGGER = Logger.getLogger("Restful-booker lifecycle pipeline");
+    private static final Operation[] LIFECYCLE = {
+            Operation.CREATE_BOOKING,
+            Operation.GET_BOOKING_BY_ID,
+            Operation.GET_BOOKING,
+            Operation.UPDATE_BOOKING,
+            Operation.PARTIAL_UPDATE_BOOKING,
+            Operation.DELETE_BOOKING
+    };
+    private final PipelineProfile profile;
+    private final ShardSettings shard = ShardSettings.fromSystemProperties();
+    private final Map<Operation, Semaphore> stagePermits = new EnumMap<>(Operation.class);
+    private final Map<Operation, StageMetrics> stageMetrics = new EnumMap<>(Operation.class);
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder aborted = new LongAdder();
+    private long elapsedNanos;
+
+    public LifecyclePipeline(PipelineProfile profile) {
+        this.profile = profile;
+        for (Operation operation : LIFECYCLE) {
+            stagePermits.put(operation, new Semaphore(profile.stageLimits().get(operation), true));
+            stageMetrics.put(operation, new StageMetrics());
+        }
+    }
+
+    public static void main(String[] args) {
+        PipelineProfile profile = PipelineProfile.fromSystemProperties();
+        LOGGER.info(() -> String.format("Starting lifecycle pipeline: %d bookings, stage limits %s",
+                profile.bookings(), profile.stageLimits()));
+        LifecyclePipeline pipeline = new LifecyclePipeline(profile);
+        try {
+            pipeline.run();
+        } finally {
+            RestfulBookerStub.stopShared();
+        }
+        pipeline.printSummary(System.out);
+        LatencyReport report = LatencyReport.of(LatencyMetrics.getInstance());
+        report.print(System.out);
+        report.write(Path.of(LatencyReport.REPORT_FILE));
+    }
+
+    public void run() {
+        warmUp();
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < profile.bookings(); i++) {
+                if (!shard.owns(i)) {
+                    continue;
+                }
+                int bookingNumber = i;
+                executor.submit(() -> runLifecycle(bookingNumber));
+            }
+        }
+        elapsedNanos = System.nanoTime() - start;
+    }
+
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    public long getAborted() {
+        return aborted.sum();
+    }
+
+    public void printSummary(PrintStream out) {
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        out.printf("%-22s %6s %9s %9s %11s %11s %11s %11s%n", "stage", "limit", "calls", "failures",
+                "queue p50", "queue p99", "service p50", "service p99");
+        for (Operation operation : LIFECYCLE) {
+            StageMetrics metrics = stageMetrics.get(operation);
+            Histogram queueTime = metrics.queueTimeSnapshot();
+            Histogram serviceTime = metrics.serviceTimeSnapshot();
+            out.printf("%-22s %6d %9d %9d %8.2f ms %8.2f ms %8.2f ms %8.2f ms%n", operation.getOperationName(),
+                    profile.stageLimits().get(operation), serviceTime.getTotalCount(), metrics.getFailures(),
+                    queueTime.getValueAtPercentile(50) / 1_000.0, queueTime.getValueAtPercentile(99) / 1_000.0,
+                    serviceTime.getValueAtPercentile(50) / 1_000.0, serviceTime.getValueAtPercentile(99) / 1_000.0);
+        }
+        out.printf("%d lifecycles completed, %d aborted in %.1f s (%.1f lifecycles/s)%n",
+                getCompleted(), getAborted(), elapsedSeconds, getCompleted() / elapsedSeconds);
+    }
+
+    private void warmUp() {
+        runLifecycle(-1);
+        stageMetrics.values().forEach(StageMetrics::reset);
+        completed.reset();
+        aborted.reset();
+        LatencyMetrics.getInstance().reset();
+    }
+
+    private void runLifecycle(int bookingNumber) {
+        VirtualUser user = new VirtualUser(bookingNumber);
+        try {
+            if (!runStage(user, Operation.CREATE_BOOKING) || !user.hasBooking()) {
+                aborted.increment();
+                return;
+            }
+            boolean passed = true;
+            for (int i = 1; i < LIFECYCLE.length - 1 && passed; i++) {
+                passed = runStage(user, LIFECYCLE[i]);
+            }
+            // always delete what was created, even when an earlier stage failed
+            if (runStage(user, Operation.DELETE_BOOKING) && passed) {
+                completed.increment();
+            } else {
+                aborted.increment();
+            }
+        } catch (InterruptedException e) {
+            aborted.increment();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean runStage(VirtualUser user, Operation operation) throws InterruptedException {
+        Semaphore permits = stagePermits.get(operation);
+        long queuedAt = System.nanoTime();
+        permits.acquire();
+        long startedAt = System.nanoTime();
+        boolean failed = true;
+        try {
+            Response response = operation.execute(user, operation.needsBooking() ? user.pickBooking() : null);
+            failed = response.statusCode() >= 400;
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "Stage " + operation.getOperationName() + " failed", e);
+        } finally {
+            permits.release();
+            stageMetrics.get(operation).record(startedAt - queuedAt, System.nanoTime() - startedAt, failed);
+        }
+        return !failed;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.restBookerApi.load;
+
+import java.time.Duration;
+
+public record LoadProfile(int concurrency,
+                          Duration rampUp,
+                          Duration duration,
+                          Duration drainTimeout,
+                          ThinkTime thinkTime,
+                          OperationMix mix) {
+
+    public static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                Integer.getInteger("restBooker.load.concurrency", 1_000),
+                Duration.ofSeconds(Long.getLong("restBooker.load.rampUpSeconds", 10L)),
+                Duration.ofSeconds(Long.getLong("restBooker.load.durationSeconds", 60L)),
+                Duration.ofSeconds(Long.getLong("restBooker.load.drainSeconds", 5L)),
+                ThinkTime.parse(System.getProperty("restBooker.load.thinkTime", "exponential:100")),
+                OperationMix.parse(System.getProperty("restBooker.load.mix", OperationMix.DEFAULT_MIX)));
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.restBookerApi.load;
+
+import com.example.restBookerApi.steps.ApiConfig;
+import com.example.restBookerApi.stub.RestfulBookerStub;
+import com.example.restBookerApi.utis.metrics.LatencyMetrics;
+import com.example.restBookerApi.utis.metrics.LatencyReport;
+import com.example.restBookerApi.utis.metrics.PerformanceGate;
+import com.example.restBookerApi.utis.metrics.PerformanceGateSettings;
+import com.example.restBookerApi.utis.sharding.ShardSettings;
+import io.restassured.response.Response;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class LoadRunner {
+    private static final Logger LOGGER = Logger.getLogger("Restful-booker load runner");
+    private final LoadProfile profile;
+    private final ShardSettings shard = ShardSettings.fromSystemProperties();
+    private final Map<Operation, LongAdder> calls = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> failures = new EnumMap<>(Operation.class);
+    private final LongAdder drainedCalls = new LongAdder();
+    private long elapsedNanos;
+    private long drainNanos;
+    private int users;
+
+    public LoadRunner(LoadProfile profile) {
+        this.profile = profile;
+        for (Operation operation : Operation.values()) {
+            calls.put(operation, new LongAdder());
+            failures.put(operation, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        LOGGER.info(() -> String.format("Starting load run: %d virtual users, ramp-up %s, duration %s, mix %s",
+                profile.concurrency(), profile.rampUp(), profile.duration(), profile.mix()));
+        LoadRunner runner = new LoadRunner(profile);
+        try {
+            runner.run();
+        } finally {
+            RestfulBookerStub.stopShared();
+        }
+        runner.printSummary(System.out);
+        System.out.println("Request throttle: " + ApiConfig.throttleStats());
+        LatencyReport report = LatencyReport.of(LatencyMetrics.getInstance()).withElapsedSeconds(runner.measuredSeconds());
+        report.print(System.out);
+        report.write(Path.of(LatencyReport.REPORT_FILE));
+        // a shard only carries part of the load, the launcher gates the merged report instead
+        PerformanceGate gate = new PerformanceGate(
+                PerformanceGateSettings.fromSystemProperties(PerformanceGate.Scenario.LOAD), PerformanceGate.Scenario.LOAD);
+        if (!runner.shard.enabled() && !gate.apply(report, System.out)) {
+            System.exit(1);
+        }
+    }
+
+    public double measuredSeconds() {
+        return elapsedNanos / 1_000_000_000.0;
+    }
+
+    public void run() {
+        warmUp();
+        int concurrency = profile.concurrency();
+        long rampUpNanos = profile.rampUp().toNanos();
+        long start = System.nanoTime();
+        long deadline = start + profile.duration().toNanos();
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        // a shard starts every count-th user, so all shards together follow the profile's ramp-up
+        for (int i = 0; i < concurrency; i++) {
+            if (!shard.owns(i)) {
+                continue;
+            }
+            users++;
+            int userId = i;
+            long startAt = start + rampUpNanos * i / concurrency;
+            executor.submit(() -> runUser(userId, startAt, deadline));
+        }
+        executor.shutdown();
+        try {
+            pauseUntil(deadline);
+            drain(executor);
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        long end = System.nanoTime();
+        elapsedNanos = Math.min(end, deadline) - start;
+        drainNanos = Math.max(0, end - deadline);
+    }
+
+    // users stop issuing calls at the deadline, calls still queued or in flight get the drain timeout to finish
+    private void drain(ExecutorService executor) throws InterruptedException {
+        if (executor.awaitTermination(profile.drainTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+            return;
+        }
+        LOGGER.warning(() -> String.format("Calls still running %s after the deadline, interrupting them",
+                profile.drainTimeout()));
+        executor.shutdownNow();
+        if (!executor.awaitTermination(profile.drainTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+            LOGGER.warning("Some virtual users did not stop after being interrupted");
+        }
+    }
+
+    private void warmUp() {
+        VirtualUser user = new VirtualUser(-1);
+        for (Operation operation : Operation.values()) {
+            if (operation.needsBooking() && !user.hasBooking()) {
+                execute(user, Operation.CREATE_BOOKING, Long.MAX_VALUE);
+            }
+            execute(user, operation, Long.MAX_VALUE);
+        }
+        for (Operation operation : Operation.values()) {
+            calls.get(operation).reset();
+            failures.get(operation).reset();
+        }
+        LatencyMetrics.getInstance().reset();
+    }
+
+    public void printSummary(PrintStream out) {
+        double elapsedSeconds = measuredSeconds();
+        long totalCalls = 0;
+        long totalFailures = 0;
+        out.printf("%-22s %12s %12s %14s%n", "operation", "calls", "failures", "throughput/s");
+        for (Operation operation : Operation.values()) {
+            long operationCalls = calls.get(operation).sum();
+            long operationFailures = failures.get(operation).sum();
+            totalCalls += operationCalls;
+            totalFailures += operationFailures;
+            out.printf("%-22s %12d %12d %14.1f%n", operation.getOperationName(), operationCalls, operationFailures,
+                    operationCalls / elapsedSeconds);
+        }
+        out.printf("%-22s %12d %12d %14.1f%n", "total", totalCalls, totalFailures, totalCalls / elapsedSeconds);
+        out.printf("measured %.1f s, %d virtual users, %d calls completed or aborted during %.1f s drain%n",
+                elapsedSeconds, users, drainedCalls.sum(), drainNanos / 1_000_000_000.0);
+    }
+
+    private void runUser(int userId, long startAt, long deadline) {
+        try {
+            pauseUntil(startAt);
+            VirtualUser user = new VirtualUser(userId);
+            while (System.nanoTime() < deadline) {
+                Operation operation = profile.mix().next();
+                if (operation.needsBooking() && !user.hasBooking()) {
+                    operation = Operation.CREATE_BOOKING;
+                }
+                execute(user, operation, deadline);
+
+                long pauseMs = profile.thinkTime().nextPauseMs();
+                if (pauseMs > 0) {
+                    pauseUntil(Math.min(deadline, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pauseMs)));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // only calls that complete before the deadline count towards the measured window
+    private void execute(VirtualUser user, Operation operation, long deadline) {
+        boolean failed;
+        try {
+            Response response = operation.execute(user, operation.needsBooking() ? user.pickBooking() : null);
+            failed = response.statusCode() >= 400;
+        } catch (Exception e) {
+            failed = true;
+            LOGGER.log(Level.FINE, "Call " + operation.getOperationName() + " failed", e);
+        }
+        if (System.nanoTime() > deadline) {
+            drainedCalls.increment();
+            return;
+        }
+        calls.get(operation).increment();
+        if (failed) {
+            failures.get(operation).increment();
+        }
+    }
+
+    private static void pauseUntil(long deadlineNanos) throws InterruptedException {
+        long remaining = deadlineNanos - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.restBookerApi.load;
+
+import com.example.restBookerApi.steps.ApiRequests;
+import com.example.restBookerApi.utis.requestbodies.BookingRequest;
+import io.restassured.response.Response;
+
+public enum Operation {
+    CREATE_BOOKING("createBooking", false) {
+        @Override
+        Response execute(VirtualUser user, String bookingId) {
+            Response response = ApiRequests.createBooking(user.getBooking());
+            user.remember(response);
+            return response;
+        }
+    },
+    GET_BOOKING_BY_ID("getBookingById", true) {
+        @Override
+        Response execute(VirtualUser user, String bookingId) {
+            return ApiRequests.getBookingById(bookingId);
+        }
+    },
+    GET_BOOKING("getBooking", false) {
+        @Override
+        Response execute(VirtualUser user, String bookingId) {
+            BookingRequest booking = user.getBooking();
+            return ApiRequests.getBooking(booking.getFirstName(), booking.getLastName());
+        }
+    },
+    UPDATE_BOOKING("updateBooking", true) {
+        @Override
+        Response execute(VirtualUser user, String bookingId) {
+            return ApiRequests.updateBooking(bookingId, user.getUpdate());
+        }
+    },
+    PARTIAL_UPDATE_BOOKING("partialUpdateBooking", true) {
+        @Override
+        Response execute(VirtualUser user, String bookingId) {
+            return ApiRequests.partialUpdateBooking(bookingId, user.getPartialUpdate());
+        }
+    },
+    DELETE_BOOKING("deleteBooking", true) {
+        @Override
+        Response execute(VirtualUser user, String bookingId) {
+            Response response = ApiRequests.deleteBooking(bookingId);
+            user.forget(bookingId);
+            return response;
+        }
+    };
+
+    private final String operationName;
+    private final boolean needsBooking;
+
+    Operation(String operationName, boolean needsBooking) {
+        this.operationName = operationName;
+        this.needsBooking = needsBooking;
+    }
+
+    public String getOperationName() {
+        return operationName;
+    }
+
+    public boolean needsBooking() {
+        return needsBooking;
+    }
+
+    public static Operation fromName(String operationName) {
+        for (Operation operation : values()) {
+            if (operation.operationName.equals(operationName)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + operationName);
+    }
+
+    abstract Response execute(VirtualUser user, String bookingId);
+}
@@ -0,0 +1,73 @@
+package com.example.restBookerApi.load;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class OperationMix {
+    public static final String DEFAULT_MIX =
+            "createBooking=20,getBookingById=40,getBooking=15,updateBooking=10,partialUpdateBooking=10,deleteBooking=5";
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    public OperationMix(Map<Operation, Integer> weights) {
+        List<Operation> selected = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            if (entry.getValue() < 0) {
+                throw new IllegalArgumentException("Weight must not be negative: " + entry);
+            }
+            if (entry.getValue() > 0) {
+                total += entry.getValue();
+                selected.add(entry.getKey());
+                cumulative.add(total);
+            }
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("Operation mix must contain at least one positive weight");
+        }
+        this.operations = selected.toArray(new Operation[0]);
+        this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+        this.totalWeight = total;
+    }
+
+    public static OperationMix parse(String spec) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entries must look like <operation>=<weight>, got: " + entry);
+            }
+            weights.merge(Operation.fromName(parts[0].trim()), Integer.parseInt(parts[1].trim()), Integer::sum);
+        }
+        return new OperationMix(weights);
+    }
+
+    public Operation next() {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        int previous = 0;
+        for (int i = 0; i < operations.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(operations[i].getOperationName()).append('=').append(cumulativeWeights[i] - previous);
+            previous = cumulativeWeights[i];
+        }
+        return builder.toString();
+    }
+}
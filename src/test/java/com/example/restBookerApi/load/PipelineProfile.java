@@ -0,0 +1,37 @@
+package com.example.restBookerApi.load;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public record PipelineProfile(int bookings, Map<Operation, Integer> stageLimits) {
+
+    public static PipelineProfile fromSystemProperties() {
+        return new PipelineProfile(
+                Integer.getInteger("restBooker.pipeline.bookings", 1_000),
+                parseStageLimits(Integer.getInteger("restBooker.pipeline.stageConcurrency", 16),
+                        System.getProperty("restBooker.pipeline.stageLimits", "")));
+    }
+
+    static Map<Operation, Integer> parseStageLimits(int defaultLimit, String spec) {
+        Map<Operation, Integer> limits = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            limits.put(operation, defaultLimit);
+        }
+        for (String entry : spec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.trim().split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Stage limits must look like <operation>=<limit>, got: " + entry);
+            }
+            limits.put(Operation.fromName(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        limits.forEach((operation, limit) -> {
+            if (limit < 1) {
+                throw new IllegalArgumentException("Stage limit must be at least 1: " + operation.getOperationName());
+            }
+        });
+        return limits;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.restBookerApi.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+class StageMetrics {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private final Recorder queueTime = new Recorder(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Recorder serviceTime = new Recorder(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final LongAdder failures = new LongAdder();
+
+    void record(long queuedNanos, long serviceNanos, boolean failed) {
+        queueTime.recordValue(toMicros(queuedNanos));
+        serviceTime.recordValue(toMicros(serviceNanos));
+        if (failed) {
+            failures.increment();
+        }
+    }
+
+    Histogram queueTimeSnapshot() {
+        return queueTime.getIntervalHistogram();
+    }
+
+    Histogram serviceTimeSnapshot() {
+        return serviceTime.getIntervalHistogram();
+    }
+
+    long getFailures() {
+        return failures.sum();
+    }
+
+    void reset() {
+        queueTime.reset();
+        serviceTime.reset();
+        failures.reset();
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(Math.max(nanos / 1_000, 1), HIGHEST_TRACKABLE_MICROS);
+    }
+}
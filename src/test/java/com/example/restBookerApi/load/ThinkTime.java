@@ -0,0 +1,66 @@
+package com.example.restBookerApi.load;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@FunctionalInterface
+public interface ThinkTime {
+    ThinkTime NONE = () -> 0;
+
+    long nextPauseMs();
+
+    static ThinkTime constant(long pauseMs) {
+        return () -> pauseMs;
+    }
+
+    static ThinkTime uniform(long minMs, long maxMs) {
+        return () -> ThreadLocalRandom.current().nextLong(minMs, maxMs + 1);
+    }
+
+    static ThinkTime exponential(long meanMs) {
+        return () -> (long) (-meanMs * Math.log(1 - ThreadLocalRandom.current().nextDouble()));
+    }
+
+    static ThinkTime parse(String spec) {
+        if (spec == null || spec.isBlank() || spec.equals("none")) {
+            return NONE;
+        }
+        String[] parts = spec.split(":", 2);
+        if (parts.length != 2) {
+            throw invalid(spec);
+        }
+        return switch (parts[0]) {
+            case "constant" -> constant(milliseconds(parts[1], spec));
+            case "uniform" -> {
+                String[] range = parts[1].split("-", 2);
+                if (range.length != 2) {
+                    throw invalid(spec);
+                }
+                long minMs = milliseconds(range[0], spec);
+                long maxMs = milliseconds(range[1], spec);
+                if (minMs > maxMs) {
+                    throw new IllegalArgumentException(
+                            "restBooker.load.thinkTime uniform:<min>-<max> needs min <= max, got: " + spec);
+                }
+                yield uniform(minMs, maxMs);
+            }
+            case "exponential" -> exponential(milliseconds(parts[1], spec));
+            default -> throw invalid(spec);
+        };
+    }
+
+    private static long milliseconds(String value, String spec) {
+        try {
+            long ms = Long.parseLong(value.trim());
+            if (ms >= 0) {
+                return ms;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        throw invalid(spec);
+    }
+
+    private static IllegalArgumentException invalid(String spec) {
+        return new IllegalArgumentException("restBooker.load.thinkTime must be none, constant:<ms>, "
+                + "uniform:<min>-<max> or exponential:<mean ms>, got: " + spec);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.restBookerApi.load;
+
+import com.example.restBookerApi.utis.requestbodies.BookingDates;
+import com.example.restBookerApi.utis.requestbodies.BookingRequest;
+import com.example.restBookerApi.utis.sharding.ShardSettings;
+import io.restassured.response.Response;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+class VirtualUser {
+    private static final int MAX_OWNED_BOOKINGS = 16;
+    private static final String FIRST_NAME = ShardSettings.fromSystemProperties().name("Load");
+    private final BookingRequest booking;
+    private final BookingRequest update;
+    private final BookingRequest partialUpdate;
+    private final Deque<String> bookingIds = new ArrayDeque<>();
+
+    VirtualUser(int userId) {
+        BookingDates bookingDates = new BookingDates("2018-01-01", "2019-01-01");
+        this.booking = new BookingRequest.Builder()
+                .setFirstName(FIRST_NAME)
+                .setLastName("User" + userId)
+                .setTotalPrice(111)
+                .setDepositPaid(true)
+                .setBookingDates(bookingDates)
+                .setAdditionalNeeds("Breakfast")
+                .build();
+        this.update = new BookingRequest.Builder()
+                .setFirstName(FIRST_NAME)
+                .setLastName("User" + userId)
+                .setTotalPrice(222)
+                .setDepositPaid(false)
+                .setBookingDates(bookingDates)
+                .setAdditionalNeeds("Lunch")
+                .build();
+        this.partialUpdate = new BookingRequest.Builder()
+                .setFirstName(FIRST_NAME)
+                .setLastName("User" + userId)
+                .build();
+    }
+
+    BookingRequest getBooking() {
+        return booking;
+    }
+
+    BookingRequest getUpdate() {
+        return update;
+    }
+
+    BookingRequest getPartialUpdate() {
+        return partialUpdate;
+    }
+
+    boolean hasBooking() {
+        return !bookingIds.isEmpty();
+    }
+
+    String pickBooking() {
+        return bookingIds.peekLast();
+    }
+
+    void remember(Response response) {
+        if (response.statusCode() == 200) {
+            if (bookingIds.size() == MAX_OWNED_BOOKINGS) {
+                bookingIds.pollFirst();
+            }
+            bookingIds.addLast(response.jsonPath().getString("bookingid"));
+        }
+    }
+
+    void forget(String bookingId) {
+        bookingIds.remove(bookingId);
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.restBookerApi.postman;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jackson.JacksonUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Test scripts are not executed, there is no JavaScript engine on the classpath. The runner understands the two
+// things our collection uses them for: pm.response.to.have.status(n) and pm.environment.set(...) of a response field.
+public final class PostmanCollection {
+    static final ObjectMapper MAPPER = JacksonUtils.newMapper();
+    private static final Logger LOGGER = Logger.getLogger("Postman collection");
+    private static final Pattern EXPECTED_STATUS = Pattern.compile("pm\\.response\\.to\\.have\\.status\\((\\d{3})\\)");
+    private static final Pattern ENVIRONMENT_SET =
+            Pattern.compile("pm\\.(?:environment|collectionVariables|variables)\\.set\\(\\s*[\"']([^\"']+)[\"']\\s*,\\s*([^)]+?)\\s*\\)");
+    private static final String RESPONSE_FIELD = "(?:pm\\.response\\.json\\(\\)|response)\\.([\\w.]+)";
+    private final List<PostmanRequest> requests;
+
+    private PostmanCollection(List<PostmanRequest> requests) {
+        this.requests = requests;
+    }
+
+    public static PostmanCollection load(Path collectionFile, String folder) {
+        JsonNode collection;
+        try {
+            collection = MAPPER.readTree(collectionFile.toFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read Postman collection " + collectionFile, e);
+        }
+        List<PostmanRequest> requests = new ArrayList<>();
+        collect(collection.path("item"), "", folder, null, requests);
+        if (requests.isEmpty()) {
+            throw new IllegalArgumentException("No requests in " + collectionFile
+                    + (folder.isBlank() ? "" : " under folder " + folder));
+        }
+        return new PostmanCollection(List.copyOf(requests));
+    }
+
+    public List<PostmanRequest> requests() {
+        return requests;
+    }
+
+    private static void collect(JsonNode items, String prefix, String folder, JsonNode inheritedAuth,
+                                List<PostmanRequest> requests) {
+        for (JsonNode item : items) {
+            String name = prefix.isEmpty() ? item.path("name").asText() : prefix + "/" + item.path("name").asText();
+            if (item.has("item")) {
+                collect(item.path("item"), name, folder, item.has("auth") ? item.path("auth") : inheritedAuth, requests);
+            } else if (folder.isBlank() || name.startsWith(folder + "/")) {
+                requests.add(parse(name, item, inheritedAuth));
+            }
+        }
+    }
+
+    private static PostmanRequest parse(String name, JsonNode item, JsonNode inheritedAuth) {
+        JsonNode request = item.path("request");
+        JsonNode url = request.path("url");
+        List<String> segments = new ArrayList<>();
+        url.path("path").forEach(segment -> segments.add(segment.asText()));
+        String pathVariable = null;
+        if (!segments.isEmpty() && segments.get(segments.size() - 1).matches("\\{\\{[^{}]+}}")) {
+            pathVariable = segments.remove(segments.size() - 1);
+        }
+        String path = "/" + String.join("/", segments) + (pathVariable == null ? "" : "/");
+
+        StringBuilder query = new StringBuilder();
+        for (JsonNode parameter : url.path("query")) {
+            if (!parameter.path("disabled").asBoolean(false)) {
+                query.append(query.isEmpty() ? "?" : "&")
+                        .append(parameter.path("key").asText()).append('=').append(parameter.path("value").asText());
+            }
+        }
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (JsonNode header : request.path("header")) {
+            if (!header.path("disabled").asBoolean(false)) {
+                headers.put(header.path("key").asText(), header.path("value").asText());
+            }
+        }
+        JsonNode body = request.path("body");
+        String rawBody = body.path("raw").asText("");
+        String language = body.path("options").path("raw").path("language").asText("json");
+        if (!rawBody.isEmpty() && !language.equals("json")
+                && headers.keySet().stream().noneMatch("Content-Type"::equalsIgnoreCase)) {
+            headers.put("Content-Type", language.equals("text") ? "text/plain" : "application/" + language);
+        }
+
+        JsonNode auth = request.has("auth") ? request.path("auth") : inheritedAuth;
+        PostmanRequest.BasicAuth basicAuth = null;
+        if (auth != null && auth.path("type").asText().equals("basic")) {
+            Map<String, String> credentials = new LinkedHashMap<>();
+            auth.path("basic").forEach(entry -> credentials.put(entry.path("key").asText(), entry.path("value").asText()));
+            basicAuth = new PostmanRequest.BasicAuth(credentials.get("username"), credentials.get("password"));
+        }
+
+        String script = testScript(item);
+        Matcher status = EXPECTED_STATUS.matcher(script);
+        Integer expectedStatus = status.find() ? Integer.valueOf(status.group(1)) : null;
+
+        return new PostmanRequest(name, request.path("method").asText("GET"), path, pathVariable, query.toString(),
+                rawBody.isEmpty() ? null : rawBody, Map.copyOf(headers), basicAuth, expectedStatus,
+                extractions(name, script));
+    }
+
+    private static String testScript(JsonNode item) {
+        StringBuilder script = new StringBuilder();
+        for (JsonNode event : item.path("event")) {
+            if (event.path("listen").asText().equals("test")) {
+                event.path("script").path("exec").forEach(line -> script.append(line.asText()).append('\n'));
+            }
+        }
+        return script.toString();
+    }
+
+    private static Map<String, String> extractions(String name, String script) {
+        Map<String, String> extractions = new LinkedHashMap<>();
+        Matcher set = ENVIRONMENT_SET.matcher(script);
+        while (set.find()) {
+            String variable = set.group(1);
+            String expression = set.group(2);
+            Matcher direct = Pattern.compile("^" + RESPONSE_FIELD + "$").matcher(expression);
+            Matcher declared = Pattern.compile("(?:const|let|var)\\s+" + Pattern.quote(expression) + "\\s*=\\s*"
+                    + RESPONSE_FIELD).matcher(script);
+            if (direct.find()) {
+                extractions.put(variable, direct.group(1));
+            } else if (expression.matches("\\w+") && declared.find()) {
+                extractions.put(variable, declared.group(1));
+            } else {
+                LOGGER.warning(() -> String.format("%s: cannot follow pm.environment.set(\"%s\", %s), the variable is not set",
+                        name, variable, expression));
+            }
+        }
+        return Map.copyOf(extractions);
+    }
+}
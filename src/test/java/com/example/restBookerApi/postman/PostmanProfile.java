@@ -0,0 +1,17 @@
+package com.example.restBookerApi.postman;
+
+import java.nio.file.Path;
+
+public record PostmanProfile(Path collection, Path environment, String folder, int concurrency, int iterations) {
+
+    public static PostmanProfile fromSystemProperties() {
+        return new PostmanProfile(
+                Path.of(System.getProperty("restBooker.postman.collection",
+                        "Postman/Collection/Restful booker.postman_collection.json")),
+                Path.of(System.getProperty("restBooker.postman.environment",
+                        "Postman/Environment/Restful booker.postman_environment.json")),
+                System.getProperty("restBooker.postman.folder", ""),
+                Integer.getInteger("restBooker.postman.concurrency", 50),
+                Integer.getInteger("restBooker.postman.iterations", 10));
+    }
+}
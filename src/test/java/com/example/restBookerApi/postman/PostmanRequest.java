@@ -0,0 +1,19 @@
+package com.example.restBookerApi.postman;
+
+import java.util.Map;
+
+// one request of the collection; pathVariable is set when the last path segment is a variable such as {{bookingID}}
+public record PostmanRequest(String name,
+                             String method,
+                             String path,
+                             String pathVariable,
+                             String query,
+                             String body,
+                             Map<String, String> headers,
+                             BasicAuth basicAuth,
+                             Integer expectedStatus,
+                             Map<String, String> extractions) {
+
+    public record BasicAuth(String username, String password) {
+    }
+}
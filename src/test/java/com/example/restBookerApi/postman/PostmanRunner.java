@@ -0,0 +1,176 @@
+package com.example.restBookerApi.postman;
+
+import com.example.restBookerApi.steps.ApiConfig;
+import com.example.restBookerApi.stub.RestfulBookerStub;
+import com.example.restBookerApi.utis.authentication.ApiConstants;
+import com.example.restBookerApi.utis.metrics.LatencyMetrics;
+import com.example.restBookerApi.utis.metrics.LatencyReport;
+import com.example.restBookerApi.utis.sharding.ShardSettings;
+import com.example.restBookerApi.utis.validation.ValidatedResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.response.Response;
+
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+public class PostmanRunner {
+    private static final Logger LOGGER = Logger.getLogger("Restful-booker Postman runner");
+    private final PostmanProfile profile;
+    private final PostmanCollection collection;
+    private final PostmanVariables environment;
+    private final Map<String, RequestStats> stats = new LinkedHashMap<>();
+    private final ShardSettings shard = ShardSettings.fromSystemProperties();
+    private long elapsedNanos;
+
+    public PostmanRunner(PostmanProfile profile, PostmanCollection collection, PostmanVariables environment) {
+        this.profile = profile;
+        this.collection = collection;
+        this.environment = environment;
+        for (PostmanRequest request : collection.requests()) {
+            stats.put(request.name(), new RequestStats());
+        }
+    }
+
+    public static void main(String[] args) {
+        PostmanProfile profile = PostmanProfile.fromSystemProperties();
+        PostmanCollection collection = PostmanCollection.load(profile.collection(), profile.folder());
+        LOGGER.info(() -> String.format("Running %d requests from %s: %d virtual users, %d iterations each",
+                collection.requests().size(), profile.collection(), profile.concurrency(), profile.iterations()));
+        PostmanRunner runner = new PostmanRunner(profile, collection, PostmanVariables.fromEnvironment(profile.environment()));
+        try {
+            runner.run();
+        } finally {
+            RestfulBookerStub.stopShared();
+        }
+        runner.printSummary(System.out);
+        LatencyReport report = LatencyReport.of(LatencyMetrics.getInstance());
+        report.print(System.out);
+        report.write(Path.of(LatencyReport.REPORT_FILE));
+    }
+
+    public void run() {
+        // one sequential iteration first, so the first calls do not all open connections and fetch tokens at once
+        runIteration(environment.copy());
+        stats.values().forEach(RequestStats::reset);
+        LatencyMetrics.getInstance().reset();
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < profile.concurrency(); i++) {
+                if (!shard.owns(i)) {
+                    continue;
+                }
+                executor.submit(() -> {
+                    PostmanVariables variables = environment.copy();
+                    for (int iteration = 0; iteration < profile.iterations(); iteration++) {
+                        runIteration(variables);
+                    }
+                });
+            }
+        }
+        elapsedNanos = System.nanoTime() - start;
+    }
+
+    public void printSummary(PrintStream out) {
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        long totalCalls = 0;
+        long totalFailures = 0;
+        int width = stats.keySet().stream().mapToInt(String::length).max().orElse(0);
+        String row = "%-" + width + "s %10s %10s%n";
+        out.printf(row, "request", "calls", "failures");
+        for (Map.Entry<String, RequestStats> entry : stats.entrySet()) {
+            RequestStats request = entry.getValue();
+            totalCalls += request.calls.sum();
+            totalFailures += request.failures.sum();
+            out.printf(row, entry.getKey(), request.calls.sum(), request.failures.sum());
+            if (request.firstFailure.get() != null) {
+                out.printf("    first failure: %s%n", request.firstFailure.get());
+            }
+        }
+        out.printf(row, "total", totalCalls, totalFailures);
+        out.printf("elapsed %.1f s, %.1f requests/s, %d virtual users%n", elapsedSeconds, totalCalls / elapsedSeconds,
+                profile.concurrency());
+    }
+
+    private void runIteration(PostmanVariables variables) {
+        for (PostmanRequest request : collection.requests()) {
+            execute(request, variables);
+        }
+    }
+
+    private void execute(PostmanRequest request, PostmanVariables variables) {
+        RequestStats requestStats = stats.get(request.name());
+        requestStats.calls.increment();
+        try {
+            Response response = send(request, variables);
+            if (request.expectedStatus() != null && response.statusCode() != request.expectedStatus()) {
+                requestStats.fail("expected status " + request.expectedStatus() + ", got " + response.statusCode());
+            }
+            if (!request.extractions().isEmpty()) {
+                JsonNode body = ValidatedResponse.of(response).body();
+                request.extractions().forEach((variable, field) -> {
+                    JsonNode value = body;
+                    for (String part : field.split("\\.")) {
+                        value = value.path(part);
+                    }
+                    if (!value.isMissingNode() && !value.isNull()) {
+                        variables.set(variable, value.asText());
+                    }
+                });
+            }
+        } catch (Exception e) {
+            requestStats.fail(e.toString());
+        }
+    }
+
+    static Response send(PostmanRequest request, PostmanVariables variables) {
+        String body = variables.resolve(request.body());
+        byte[] bytes = body == null ? null : body.getBytes(StandardCharsets.UTF_8);
+        Map<String, String> headers = new LinkedHashMap<>();
+        request.headers().forEach((name, value) -> headers.put(name, variables.resolve(value)));
+        boolean auth = false;
+        if (request.basicAuth() != null) {
+            String username = variables.resolve(request.basicAuth().username());
+            String password = variables.resolve(request.basicAuth().password());
+            if (ApiConstants.VALID_USERNAME.equals(username) && ApiConstants.VALID_PASSWORD.equals(password)) {
+                auth = true;
+            } else {
+                headers.put("Authorization", "Basic " + Base64.getEncoder()
+                        .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+        String path = variables.resolve(request.path());
+        String query = variables.resolve(request.query());
+        if (request.pathVariable() != null) {
+            String id = variables.resolve(request.pathVariable());
+            return ApiConfig.sendRequest(request.method(), path, id + query, bytes, auth, headers);
+        }
+        return ApiConfig.sendRequest(request.method(), path + query, bytes, auth, headers);
+    }
+
+    private static final class RequestStats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final AtomicReference<String> firstFailure = new AtomicReference<>();
+
+        private void fail(String reason) {
+            failures.increment();
+            firstFailure.compareAndSet(null, reason);
+        }
+
+        private void reset() {
+            calls.reset();
+            failures.reset();
+            firstFailure.set(null);
+        }
+    }
+}
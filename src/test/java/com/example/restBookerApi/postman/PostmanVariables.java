@@ -0,0 +1,84 @@
+package com.example.restBookerApi.postman;
+
+import com.example.restBookerApi.steps.ApiConfig;
+import com.example.restBookerApi.utis.authentication.ApiConstants;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class PostmanVariables {
+    private static final Pattern VARIABLE = Pattern.compile("\\{\\{([^{}]+)}}");
+    private static final String OVERRIDE_PREFIX = "restBooker.postman.var.";
+    private static final int MAX_NESTING = 8;
+    private final Map<String, String> values;
+
+    private PostmanVariables(Map<String, String> values) {
+        this.values = values;
+    }
+
+    // environment values that only point at another variable ({{validUsername}}) fall back to the suite's own settings
+    public static PostmanVariables fromEnvironment(Path environmentFile) {
+        Map<String, String> values = new HashMap<>();
+        values.put("baseURL", ApiConfig.baseUrl());
+        values.put("validUsername", ApiConstants.VALID_USERNAME);
+        values.put("validPassword", ApiConstants.VALID_PASSWORD);
+        values.put("invalidBookingID", "999999999");
+        try {
+            JsonNode environment = PostmanCollection.MAPPER.readTree(environmentFile.toFile());
+            for (JsonNode variable : environment.path("values")) {
+                if (variable.path("enabled").asBoolean(true)) {
+                    String key = variable.path("key").asText().trim();
+                    String value = variable.path("value").asText();
+                    if (!value.equals("{{" + key + "}}")) {
+                        values.put(key, value);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read Postman environment " + environmentFile, e);
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(OVERRIDE_PREFIX))
+                .forEach(name -> values.put(name.substring(OVERRIDE_PREFIX.length()), System.getProperty(name)));
+        return new PostmanVariables(values);
+    }
+
+    public PostmanVariables copy() {
+        return new PostmanVariables(new HashMap<>(values));
+    }
+
+    public void set(String name, String value) {
+        values.put(name.trim(), value);
+    }
+
+    public String get(String name) {
+        return resolve(values.get(name.trim()));
+    }
+
+    public String resolve(String text) {
+        if (text == null || text.indexOf('{') < 0) {
+            return text;
+        }
+        String resolved = text;
+        for (int depth = 0; depth < MAX_NESTING && resolved.contains("{{"); depth++) {
+            Matcher matcher = VARIABLE.matcher(resolved);
+            StringBuilder replaced = new StringBuilder();
+            while (matcher.find()) {
+                String value = values.get(matcher.group(1).trim());
+                matcher.appendReplacement(replaced, Matcher.quoteReplacement(value == null ? matcher.group() : value));
+            }
+            matcher.appendTail(replaced);
+            if (replaced.toString().equals(resolved)) {
+                break;
+            }
+            resolved = replaced.toString();
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.restBookerApi.sharding;
+
+import com.example.restBookerApi.load.LoadRunner;
+import com.example.restBookerApi.stub.RestfulBookerStub;
+import com.example.restBookerApi.utis.authentication.ApiConstants;
+import com.example.restBookerApi.utis.metrics.PerformanceGate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+public class ShardLauncher {
+    static final String SHARDS_DIRECTORY = "target/shards";
+    private static final Logger LOGGER = Logger.getLogger("Restful-booker shard launcher");
+    private static final String TESTNG_MAIN = "org.testng.TestNG";
+    private final int count;
+    private final String mainClass;
+    private final String suite;
+    private final List<String> jvmArgs;
+
+    public ShardLauncher(int count, String mainClass, String suite, List<String> jvmArgs) {
+        this.count = count;
+        this.mainClass = mainClass;
+        this.suite = suite;
+        this.jvmArgs = jvmArgs;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String extraJvmArgs = System.getProperty("restBooker.shard.jvmArgs", "").trim();
+        ShardLauncher launcher = new ShardLauncher(
+                Integer.getInteger("restBooker.shard.count", 2),
+                System.getProperty("restBooker.shard.mainClass", TESTNG_MAIN),
+                System.getProperty("restBooker.shard.suite", "src/test/resources/testng.xml"),
+                extraJvmArgs.isEmpty() ? List.of() : List.of(extraJvmArgs.split("\\s+")));
+
+        // every shard must talk to the same service, otherwise the name prefixes have nothing to isolate
+        String baseUrl = ApiConstants.BASE_URL;
+        RestfulBookerStub stub = null;
+        if (ApiConstants.usesStub()) {
+            stub = RestfulBookerStub.start(0, ApiConstants.VALID_USERNAME, ApiConstants.VALID_PASSWORD);
+            baseUrl = stub.getBaseUrl();
+        }
+        boolean passed;
+        try {
+            passed = launcher.run(baseUrl);
+        } finally {
+            if (stub != null) {
+                stub.stop();
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    public boolean run(String baseUrl) throws InterruptedException {
+        Path root = Path.of(SHARDS_DIRECTORY);
+        deleteRecursively(root);
+        LOGGER.info(() -> String.format("Starting %d shards of %s against %s", count, mainClass, baseUrl));
+
+        List<Process> processes = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            processes.add(start(index, root.resolve("shard-" + index), baseUrl));
+        }
+        boolean passed = true;
+        for (int index = 0; index < count; index++) {
+            int exitCode = processes.get(index).waitFor();
+            Path log = root.resolve("shard-" + index).resolve("output.log");
+            if (exitCode != 0) {
+                passed = false;
+                System.out.printf("shard %d exited with %d, see %s%n", index, exitCode, log);
+            }
+        }
+        return ShardReportMerger.merge(List.of(root), scenario(), System.out) && passed;
+    }
+
+    // only the suite and the load runner have baselines, the other scenarios are merged without a gate
+    private PerformanceGate.Scenario scenario() {
+        if (mainClass.equals(TESTNG_MAIN)) {
+            return PerformanceGate.Scenario.SUITE;
+        }
+        return mainClass.equals(LoadRunner.class.getName()) ? PerformanceGate.Scenario.LOAD : null;
+    }
+
+    private Process start(int index, Path directory, String baseUrl) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        // the caller's settings apply to every shard, apart from the shard's own coordinates and outputs
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith("restBooker.") && !name.startsWith("restBooker.shard."))
+                .filter(name -> !name.equals("restBooker.metrics.reportFile"))
+                .sorted()
+                .forEach(name -> command.add("-D" + name + "=" + System.getProperty(name)));
+        command.add("-DrestBooker.shard.index=" + index);
+        command.add("-DrestBooker.shard.count=" + count);
+        String namePrefix = System.getProperty("restBooker.shard.namePrefix");
+        if (namePrefix != null) {
+            command.add("-DrestBooker.shard.namePrefix=" + namePrefix + index + "-");
+        }
+        command.add("-DrestBooker.metrics.reportFile=" + directory.resolve("latency-report.json"));
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(mainClass);
+        if (mainClass.equals(TESTNG_MAIN)) {
+            command.add("-d");
+            command.add(directory.resolve("testng").toString());
+            command.add(suite);
+        }
+        try {
+            Files.createDirectories(directory);
+            ProcessBuilder builder = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(directory.resolve("output.log").toFile());
+            // children see a base URL, so they also need the credentials even when they fall back to the defaults
+            builder.environment().put("REST_BOOKER_BASE_URL", baseUrl);
+            builder.environment().put("REST_BOOKER_USERNAME", ApiConstants.VALID_USERNAME);
+            builder.environment().put("REST_BOOKER_PASSWORD", ApiConstants.VALID_PASSWORD);
+            return builder.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteRecursively(Path directory) {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
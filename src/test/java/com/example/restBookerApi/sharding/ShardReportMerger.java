@@ -0,0 +1,112 @@
+package com.example.restBookerApi.sharding;
+
+import com.example.restBookerApi.utis.metrics.LatencyReport;
+import com.example.restBookerApi.utis.metrics.PerformanceGate;
+import com.example.restBookerApi.utis.metrics.PerformanceGateSettings;
+import org.w3c.dom.Element;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+public class ShardReportMerger {
+    static final String MERGED_REPORT_FILE =
+            System.getProperty("restBooker.shard.mergedReportFile", "target/latency-report.json");
+    private static final String TESTNG_RESULTS = "testng-results.xml";
+
+    public static void main(String[] args) {
+        List<Path> roots = new ArrayList<>();
+        for (String arg : args) {
+            roots.add(Path.of(arg));
+        }
+        if (roots.isEmpty()) {
+            roots.add(Path.of(ShardLauncher.SHARDS_DIRECTORY));
+        }
+        PerformanceGate.Scenario scenario = PerformanceGate.Scenario.valueOf(
+                System.getProperty("restBooker.perf.scenario", "suite").toUpperCase(Locale.ROOT));
+        System.exit(merge(roots, scenario, System.out) ? 0 : 1);
+    }
+
+    // per-shard latency reports and TestNG results anywhere below the roots, e.g. target/ copied from each machine;
+    // a null scenario merges without gating
+    public static boolean merge(List<Path> roots, PerformanceGate.Scenario scenario, PrintStream out) {
+        Path mergedReport = Path.of(MERGED_REPORT_FILE).toAbsolutePath();
+        List<Path> latencyReports = find(roots, file -> file.getFileName().toString().startsWith("latency-report")
+                && file.getFileName().toString().endsWith(".json") && !file.toAbsolutePath().equals(mergedReport));
+        List<Path> testResults = find(roots, file -> file.getFileName().toString().equals(TESTNG_RESULTS));
+        if (latencyReports.isEmpty()) {
+            out.println("No shard latency reports found under " + roots);
+            return false;
+        }
+
+        boolean passed = true;
+        if (!testResults.isEmpty()) {
+            passed = printTestResults(testResults, out);
+        }
+
+        List<LatencyReport> reports = new ArrayList<>();
+        latencyReports.forEach(file -> reports.add(LatencyReport.read(file)));
+        LatencyReport merged = LatencyReport.merge(reports);
+        out.printf("Merged latency of %d shards%n", reports.size());
+        merged.print(out);
+        merged.write(Path.of(MERGED_REPORT_FILE));
+
+        if (scenario != null) {
+            PerformanceGate gate = new PerformanceGate(PerformanceGateSettings.fromSystemProperties(scenario), scenario);
+            passed &= gate.apply(merged, out);
+        }
+        return passed;
+    }
+
+    private static boolean printTestResults(List<Path> testResults, PrintStream out) {
+        long[] totals = new long[4];
+        out.printf("%-48s %7s %7s %7s %7s%n", "shard", "total", "passed", "failed", "skipped");
+        for (Path file : testResults) {
+            long[] counts = readCounts(file);
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += counts[i];
+            }
+            out.printf("%-48s %7d %7d %7d %7d%n", file.getParent(), counts[0], counts[1], counts[2], counts[3]);
+        }
+        out.printf("%-48s %7d %7d %7d %7d%n", "all shards", totals[0], totals[1], totals[2], totals[3]);
+        return totals[2] == 0;
+    }
+
+    private static long[] readCounts(Path file) {
+        try {
+            Element root = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file.toFile())
+                    .getDocumentElement();
+            return new long[]{Long.parseLong(root.getAttribute("total")), Long.parseLong(root.getAttribute("passed")),
+                    Long.parseLong(root.getAttribute("failed")), Long.parseLong(root.getAttribute("skipped"))};
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IllegalStateException("Unreadable TestNG results " + file, e);
+        }
+    }
+
+    private static List<Path> find(List<Path> roots, Predicate<Path> matcher) {
+        List<Path> found = new ArrayList<>();
+        for (Path root : roots) {
+            if (!Files.exists(root)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.walk(root)) {
+                files.filter(Files::isRegularFile).filter(matcher).sorted().forEach(found::add);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return found;
+    }
+}
@@ -1,48 +1,304 @@
 package com.example.restBookerApi.steps;
 
+import com.example.restBookerApi.stub.RestfulBookerStub;
 import com.example.restBookerApi.utis.authentication.ApiConstants;
-import io.restassured.authentication.BasicAuthScheme;
+import com.example.restBookerApi.utis.authentication.AuthMode;
+import com.example.restBookerApi.utis.authentication.TokenCache;
+import com.example.restBookerApi.utis.http.HttpClientSettings;
+import com.example.restBookerApi.utis.http.PooledHttpClientFactory;
+import com.example.restBookerApi.utis.http.RequestThrottle;
+import com.example.restBookerApi.utis.http.ThrottleSettings;
+import com.example.restBookerApi.utis.jfr.ApiCallEvent;
+import com.example.restBookerApi.utis.jfr.ApiCallTiming;
+import com.example.restBookerApi.utis.metrics.EndpointMetrics;
+import com.example.restBookerApi.utis.metrics.LatencyMetrics;
+import com.example.restBookerApi.utis.recording.ExchangeRecorder;
+import com.example.restBookerApi.utis.recording.RecordingMode;
 import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
+import io.restassured.http.Header;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
 import static io.restassured.RestAssured.given;
 
 public abstract class ApiConfig {
+    private static final Map<String, String> ID_PATH_TEMPLATES = new ConcurrentHashMap<>();
+    private static final AuthMode AUTH_MODE = AuthMode.fromSystemProperties();
+    private static final RecordingMode RECORDING_MODE = ExchangeRecorder.getInstance().getMode();
+    private static final RequestThrottle THROTTLE = new RequestThrottle(ThrottleSettings.fromSystemProperties());
+
     public static Response sendRequest(String method, String path, Object body, boolean auth) {
-        return given()
-                .spec(requestSpec(body, auth))
-                .when()
-                .request(method, path);
+        return sendRequest(method, path, body, auth, Map.of());
     }
 
     public static Response sendRequest(String method, String path, String bookingId, Object body, boolean auth) {
-        return given()
-                .spec(requestSpec(body, auth))
+        return sendRequest(method, path, bookingId, body, auth, Map.of());
+    }
+
+    public static Response sendRequest(String method, String path, Object body, boolean auth,
+                                       Map<String, String> headers) {
+        int query = path.indexOf('?');
+        return send(method, path, query < 0 ? path : path.substring(0, query), null, body, auth, headers, false);
+    }
+
+    public static Response sendRequest(String method, String path, String bookingId, Object body, boolean auth,
+                                       Map<String, String> headers) {
+        String pathTemplate = ID_PATH_TEMPLATES.computeIfAbsent(path, ApiConfig::idPathTemplate);
+        return send(method, path + bookingId, pathTemplate, bookingId, body, auth, headers, false);
+    }
+
+    // leaves the body on the connection for a caller that reads it once as a stream, the caller must read or close it
+    // to hand the connection back; the recorder needs the whole body, so recorded calls are still buffered
+    public static Response sendStreamingRequest(String method, String path, boolean auth) {
+        int query = path.indexOf('?');
+        return send(method, path, query < 0 ? path : path.substring(0, query), null, null, auth, Map.of(), true);
+    }
+
+    private static Response send(String method, String path, String pathTemplate, String bookingId, Object body,
+                                 boolean auth, Map<String, String> headers, boolean streamed) {
+        EndpointMetrics endpoint = LatencyMetrics.getInstance().endpoint(method, pathTemplate);
+        if (RECORDING_MODE == RecordingMode.REPLAY) {
+            return replay(endpoint, method, path, pathTemplate, bookingId, body, auth, headers);
+        }
+        String token = auth && AUTH_MODE == AuthMode.TOKEN ? token() : null;
+        // isEnabled() is false unless a flight recording is running, then the event is never committed
+        ApiCallEvent event = new ApiCallEvent();
+        ApiCallTiming timing = event.isEnabled() ? ApiCallTiming.start(method, pathTemplate) : null;
+        Response response = null;
+        int statusCode = -1;
+        List<String[]> sentHeaders = RECORDING_MODE == RecordingMode.RECORD ? new ArrayList<>() : null;
+        long startMillis = RECORDING_MODE == RecordingMode.RECORD ? System.currentTimeMillis() : 0;
+        boolean buffered = !streamed || RECORDING_MODE == RecordingMode.RECORD;
+        long start = System.nanoTime();
+        event.begin();
+        try {
+            response = throttled(endpoint,
+                    () -> execute(method, path, body, auth, token, headers, sentHeaders, buffered));
+            if (token != null && response.statusCode() == 403) {
+                if (!buffered) {
+                    // the rejected response is dropped, reading it hands its connection back
+                    response.asByteArray();
+                }
+                // token expired or was revoked server side, fetch a new one once
+                TokenCache.getInstance().invalidate(ApiConstants.VALID_USERNAME, ApiConstants.VALID_PASSWORD, token);
+                String renewed = token();
+                if (sentHeaders != null) {
+                    sentHeaders.clear();
+                }
+                response = throttled(endpoint,
+                        () -> execute(method, path, body, auth, renewed, headers, sentHeaders, buffered));
+            }
+            statusCode = response.statusCode();
+            if (sentHeaders != null) {
+                ExchangeRecorder.getInstance().record(method, path, auth, body, headers, sentHeaders, response,
+                        startMillis, System.nanoTime() - start);
+            }
+            return response;
+        } finally {
+            long end = System.nanoTime();
+            LatencyMetrics.getInstance().record(endpoint, start, end, statusCode);
+            if (timing != null) {
+                commit(event, timing, end, bookingId, statusCode, response, buffered);
+            }
+        }
+    }
+
+    private static void commit(ApiCallEvent event, ApiCallTiming timing, long endNanos, String bookingId,
+                               int statusCode, Response response, boolean buffered) {
+        event.end();
+        timing.finish(event, endNanos);
+        if (event.shouldCommit()) {
+            event.method = timing.getMethod();
+            event.pathTemplate = timing.getPathTemplate();
+            event.bookingId = bookingId;
+            event.statusCode = statusCode;
+            event.responseBytes = response == null ? 0 : responseBytes(response, buffered);
+            event.commit();
+        }
+    }
+
+    // a streamed body is still on the connection, so its size comes from the headers, 0 when it is chunked
+    private static long responseBytes(Response response, boolean buffered) {
+        if (buffered) {
+            return response.asByteArray().length;
+        }
+        String contentLength = response.header("Content-Length");
+        return contentLength == null ? 0 : Long.parseLong(contentLength);
+    }
+
+    // still emits the API call event, marked as replayed, so a recording covers every call in either mode
+    private static Response replay(EndpointMetrics endpoint, String method, String path, String pathTemplate,
+                                   String bookingId, Object body, boolean auth, Map<String, String> headers) {
+        ApiCallEvent event = new ApiCallEvent();
+        ApiCallTiming timing = event.isEnabled() ? ApiCallTiming.start(method, pathTemplate) : null;
+        Response response = null;
+        int statusCode = -1;
+        long start = System.nanoTime();
+        event.begin();
+        try {
+            response = ExchangeRecorder.getInstance().replay(method, path, auth, body, headers);
+            statusCode = response.statusCode();
+            return response;
+        } finally {
+            long end = System.nanoTime();
+            LatencyMetrics.getInstance().record(endpoint, start, end, statusCode);
+            if (timing != null) {
+                event.replayed = true;
+                commit(event, timing, end, bookingId, statusCode, response, true);
+            }
+        }
+    }
+
+    // the token is fetched before a permit is taken, so a token request never waits on its own caller's permit
+    private static Response throttled(EndpointMetrics endpoint, Supplier<Response> request) {
+        if (!THROTTLE.isEnabled()) {
+            return request.get();
+        }
+        long waitNanos = THROTTLE.acquire(endpoint.getName());
+        endpoint.recordThrottleWait(waitNanos);
+        ApiCallTiming timing = ApiCallTiming.current();
+        if (timing != null) {
+            timing.addThrottleWait(waitNanos);
+        }
+        int statusCode = -1;
+        long start = System.nanoTime();
+        try {
+            Response response = request.get();
+            statusCode = response.statusCode();
+            return response;
+        } finally {
+            THROTTLE.release(statusCode, System.nanoTime() - start);
+        }
+    }
+
+    private static Response execute(String method, String path, Object body, boolean auth, String token,
+                                    Map<String, String> headers, List<String[]> sentHeaders, boolean buffered) {
+        RequestSpecification requestSpec = requestSpec(body, auth, token);
+        if (!headers.isEmpty()) {
+            requestSpec.headers(headers);
+        }
+        if (sentHeaders != null) {
+            requestSpec.filter(captureHeaders(sentHeaders));
+        }
+        Response response = requestSpec
                 .when()
-                .request(method, path + bookingId);
+                .request(method, path);
+        if (buffered) {
+            // read here, so the latency covers the body and the connection goes back to the pool right away
+            response.asByteArray();
+        }
+        return response;
     }
 
-    private static RequestSpecification requestSpec(Object body, boolean auth) {
-        RequestSpecBuilder requestSpecBuilder = new RequestSpecBuilder()
-                .setBaseUri(ApiConstants.BASE_URL)
-                .addHeader("Content-Type", ContentType.JSON.toString());
+    // runs last before the request is sent, so it sees the spec's headers and cookies as they go out
+    private static Filter captureHeaders(List<String[]> sentHeaders) {
+        return (request, response, context) -> {
+            for (Header header : request.getHeaders()) {
+                sentHeaders.add(new String[]{header.getName(), header.getValue()});
+            }
+            if (request.getCookies().exist()) {
+                List<String> cookies = new ArrayList<>();
+                request.getCookies().forEach(cookie -> cookies.add(cookie.getName() + '=' + cookie.getValue()));
+                sentHeaders.add(new String[]{"Cookie", String.join("; ", cookies)});
+            }
+            return context.next(request, response);
+        };
+    }
+
+    static RequestSpecification requestSpec(Object body, boolean auth) {
+        return requestSpec(body, auth, null);
+    }
 
-        if (body != null) {
-            requestSpecBuilder.setBody(body);
+    static RequestSpecification requestSpec(Object body, boolean auth, String token) {
+        RequestSpecification requestSpec;
+        if (token != null) {
+            requestSpec = given().spec(BaseSpecs.NO_AUTH).cookie("token", token);
+        } else {
+            requestSpec = given().spec(auth ? BaseSpecs.AUTH : BaseSpecs.NO_AUTH);
         }
 
-        if (auth) {
-            requestSpecBuilder.setAuth(setBasicAuthScheme());
+        if (body instanceof byte[] bytes) {
+            requestSpec.body(bytes);
+        } else if (body != null) {
+            requestSpec.body(body);
         }
 
-        return requestSpecBuilder.build();
+        return requestSpec;
+    }
+
+    public static String baseUrl() {
+        return BaseSpecs.BASE_URL;
+    }
+
+    public static String connectionPoolStats() {
+        return HttpClients.FACTORY.getConnectionManager().stats();
+    }
+
+    public static String throttleStats() {
+        return THROTTLE.stats();
+    }
+
+    // shared with the async client, so both clients draw from one rate budget and one concurrency limit
+    static RequestThrottle throttle() {
+        return THROTTLE;
+    }
+
+    public static AuthMode authMode() {
+        return AUTH_MODE;
+    }
+
+    static String basicAuthHeader() {
+        return BaseSpecs.BASIC_AUTH_HEADER;
+    }
+
+    private static String token() {
+        return TokenCache.getInstance().getToken(ApiConstants.VALID_USERNAME, ApiConstants.VALID_PASSWORD);
+    }
+
+    private static String idPathTemplate(String path) {
+        return path + "{id}";
+    }
+
+    private static String encodeBasicAuth(String username, String password) {
+        String credentials = username + ":" + password;
+        return "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class BaseSpecs {
+        private static final String BASE_URL = ApiConstants.usesStub()
+                ? RestfulBookerStub.shared().getBaseUrl()
+                : ApiConstants.BASE_URL;
+
+        private static final String BASIC_AUTH_HEADER =
+                encodeBasicAuth(ApiConstants.VALID_USERNAME, ApiConstants.VALID_PASSWORD);
+
+        private static final RequestSpecification NO_AUTH = new RequestSpecBuilder()
+                .setBaseUri(BASE_URL)
+                .setConfig(RestAssuredConfig.config()
+                        .httpClient(HttpClientConfig.httpClientConfig().httpClientFactory(HttpClients.FACTORY)))
+                .addHeader("Content-Type", ContentType.JSON.toString())
+                .build();
+
+        private static final RequestSpecification AUTH = new RequestSpecBuilder()
+                .addRequestSpecification(NO_AUTH)
+                .addHeader("Authorization", BASIC_AUTH_HEADER)
+                .build();
     }
 
-    private static BasicAuthScheme setBasicAuthScheme() {
-        final BasicAuthScheme authScheme = new BasicAuthScheme();
-        authScheme.setUserName(ApiConstants.VALID_USERNAME);
-        authScheme.setPassword(ApiConstants.VALID_PASSWORD);
-        return authScheme;
+    private static final class HttpClients {
+        private static final PooledHttpClientFactory FACTORY =
+                new PooledHttpClientFactory(HttpClientSettings.fromSystemProperties());
     }
 }
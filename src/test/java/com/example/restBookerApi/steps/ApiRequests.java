@@ -1,7 +1,9 @@
 package com.example.restBookerApi.steps;
 
 import com.example.restBookerApi.utis.authentication.AuthenticationRequest;
+import com.example.restBookerApi.utis.fixtures.CreatedBookingRegistry;
 import com.example.restBookerApi.utis.requestbodies.BookingRequest;
+import com.example.restBookerApi.utis.validation.ResponseValidation;
 import io.restassured.response.Response;
 
 public class ApiRequests {
@@ -12,35 +14,55 @@ public class ApiRequests {
 
     public static Response getBooking(String firstname, String lastname) {
         String queryParameters = "?firstname=" + firstname + "&lastname=" + lastname;
+        if (AsyncApiConfig.hedgingEnabled()) {
+            return AsyncApiConfig.sendHedgedGet("/booking" + queryParameters, true).join();
+        }
         return ApiConfig.sendRequest("GET", "/booking" + queryParameters, null, true);
     }
 
+    // with streaming validation the list stays on the connection until ResponseValidation reads it, so the caller
+    // must validate the body; hedged GETs always arrive buffered
+    public static Response getBookingStreamed(String firstname, String lastname) {
+        if (!ResponseValidation.streamingEnabled() || AsyncApiConfig.hedgingEnabled()) {
+            return getBooking(firstname, lastname);
+        }
+        return ApiConfig.sendStreamingRequest("GET", "/booking?firstname=" + firstname + "&lastname=" + lastname,
+                true);
+    }
+
     public static Response getBookingById(String bookingId) {
+        if (AsyncApiConfig.hedgingEnabled()) {
+            return AsyncApiConfig.sendHedgedGet("/booking/", bookingId, true).join();
+        }
         return ApiConfig.sendRequest("GET", "/booking/", bookingId, null, true);
     }
 
     public static Response createBooking(BookingRequest request) {
-        return ApiConfig.sendRequest("POST", "/booking", request.requestBody.toString(), true);
+        Response response = ApiConfig.sendRequest("POST", "/booking", request.toJsonBytes(), true);
+        CreatedBookingRegistry.getInstance().registerCreated(response);
+        return response;
     }
 
     public static Response updateBooking(String bookingId, BookingRequest request) {
-        return ApiConfig.sendRequest("PUT", "/booking/", bookingId, request.requestBody.toString(), true);
+        return ApiConfig.sendRequest("PUT", "/booking/", bookingId, request.toJsonBytes(), true);
     }
 
     public static Response updateBookingNoAuth(String bookingId, BookingRequest request) {
-        return ApiConfig.sendRequest("PUT", "/booking/", bookingId, request.requestBody.toString(), false);
+        return ApiConfig.sendRequest("PUT", "/booking/", bookingId, request.toJsonBytes(), false);
     }
 
     public static Response partialUpdateBooking(String bookingId, BookingRequest request) {
-        return ApiConfig.sendRequest("PATCH", "/booking/", bookingId, request.requestBody.toString(), true);
+        return ApiConfig.sendRequest("PATCH", "/booking/", bookingId, request.toJsonBytes(), true);
     }
 
     public static Response partialUpdateBookingNoAuth(String bookingId, BookingRequest request) {
-        return ApiConfig.sendRequest("PATCH", "/booking/", bookingId, request.requestBody.toString(), false);
+        return ApiConfig.sendRequest("PATCH", "/booking/", bookingId, request.toJsonBytes(), false);
     }
 
     public static Response deleteBooking(String bookingId) {
-        return ApiConfig.sendRequest("DELETE", "/booking/", bookingId, null, true);
+        Response response = ApiConfig.sendRequest("DELETE", "/booking/", bookingId, null, true);
+        CreatedBookingRegistry.getInstance().registerDeleted(bookingId, response);
+        return response;
     }
 
     public static Response deleteBookingNoAuth(String bookingId) {
@@ -0,0 +1,326 @@
+package com.example.restBookerApi.steps;
+
+import com.example.restBookerApi.utis.authentication.ApiConstants;
+import com.example.restBookerApi.utis.authentication.AuthMode;
+import com.example.restBookerApi.utis.authentication.TokenCache;
+import com.example.restBookerApi.utis.http.AsyncClientSettings;
+import com.example.restBookerApi.utis.http.HedgingPolicy;
+import com.example.restBookerApi.utis.http.HedgingSettings;
+import com.example.restBookerApi.utis.http.InFlightLimiter;
+import com.example.restBookerApi.utis.http.RequestThrottle;
+import com.example.restBookerApi.utis.metrics.EndpointMetrics;
+import com.example.restBookerApi.utis.metrics.LatencyMetrics;
+import com.example.restBookerApi.utis.recording.ExchangeRecorder;
+import com.example.restBookerApi.utis.recording.RecordingMode;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public abstract class AsyncApiConfig {
+    private static final RecordingMode RECORDING_MODE = ExchangeRecorder.getInstance().getMode();
+    private static final HedgingPolicy HEDGING = new HedgingPolicy(HedgingSettings.fromSystemProperties());
+
+    public static CompletableFuture<Response> sendRequest(String method, String path, byte[] body, boolean auth) {
+        int query = path.indexOf('?');
+        return send(method, path, query < 0 ? path : path.substring(0, query), body, auth);
+    }
+
+    public static CompletableFuture<Response> sendRequest(String method, String path, String bookingId, byte[] body,
+                                                          boolean auth) {
+        return send(method, path + bookingId, path + "{id}", body, auth);
+    }
+
+    // only GETs can be hedged, the duplicate of any other method could change the booking twice
+    public static CompletableFuture<Response> sendHedgedGet(String path, boolean auth) {
+        int query = path.indexOf('?');
+        return hedged(path, query < 0 ? path : path.substring(0, query), auth);
+    }
+
+    public static CompletableFuture<Response> sendHedgedGet(String path, String bookingId, boolean auth) {
+        return hedged(path + bookingId, path + "{id}", auth);
+    }
+
+    public static boolean hedgingEnabled() {
+        return HEDGING.isEnabled() && RECORDING_MODE != RecordingMode.REPLAY;
+    }
+
+    public static String hedgingStats() {
+        return HEDGING.stats();
+    }
+
+    public static String limiterStats() {
+        return String.format("inFlight=%d, queued=%d", Client.LIMITER.inFlight(), Client.LIMITER.queued());
+    }
+
+    private static CompletableFuture<Response> send(String method, String path, String pathTemplate, byte[] body,
+                                                    boolean auth) {
+        EndpointMetrics endpoint = LatencyMetrics.getInstance().endpoint(method, pathTemplate);
+        if (RECORDING_MODE == RecordingMode.REPLAY) {
+            return replay(endpoint, method, path, body, auth);
+        }
+        if (!auth || ApiConfig.authMode() != AuthMode.TOKEN) {
+            return Client.LIMITER.submit(() -> execute(endpoint, method, path, body, auth, null));
+        }
+        return token().thenCompose(token -> Client.LIMITER.submit(
+                        () -> execute(endpoint, method, path, body, true, token))
+                .thenCompose(response -> {
+                    if (response.statusCode() != 403) {
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    TokenCache.getInstance().invalidate(ApiConstants.VALID_USERNAME, ApiConstants.VALID_PASSWORD, token);
+                    return token().thenCompose(refreshed -> Client.LIMITER.submit(
+                            () -> execute(endpoint, method, path, body, true, refreshed)));
+                }));
+    }
+
+    private static CompletableFuture<Response> hedged(String path, String pathTemplate, boolean auth) {
+        if (!hedgingEnabled()) {
+            return send("GET", path, pathTemplate, null, auth);
+        }
+        EndpointMetrics endpoint = LatencyMetrics.getInstance().endpoint("GET", pathTemplate);
+        if (!auth || ApiConfig.authMode() != AuthMode.TOKEN) {
+            return new HedgedGet(endpoint, path, auth, null).start();
+        }
+        return token().thenCompose(token -> new HedgedGet(endpoint, path, true, token).start()
+                .thenCompose(response -> {
+                    if (response.statusCode() != 403) {
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    TokenCache.getInstance().invalidate(ApiConstants.VALID_USERNAME, ApiConstants.VALID_PASSWORD, token);
+                    return token().thenCompose(refreshed -> new HedgedGet(endpoint, path, true, refreshed).start());
+                }));
+    }
+
+    private static CompletableFuture<Response> execute(EndpointMetrics endpoint, String method, String path, byte[] body,
+                                                       boolean auth, String token) {
+        HttpRequest request = request(method, path, body, auth, token);
+        long startMillis = RECORDING_MODE == RecordingMode.RECORD ? System.currentTimeMillis() : 0;
+        long start = System.nanoTime();
+        return throttled(endpoint, () -> Client.HTTP_CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()))
+                .whenComplete((response, error) -> {
+                    long end = System.nanoTime();
+                    LatencyMetrics.getInstance().record(endpoint, start, end, response == null ? -1 : response.statusCode());
+                    if (response != null && RECORDING_MODE == RecordingMode.RECORD) {
+                        record(method, path, auth, body, response, startMillis, end - start);
+                    }
+                })
+                .thenApply(AsyncApiConfig::toResponse);
+    }
+
+    // the ApiConfig throttle blocks while it waits, so async calls wait on a virtual thread instead of the client's
+    // executor; every attempt takes its own permit, hedges included
+    private static CompletableFuture<HttpResponse<byte[]>> throttled(
+            EndpointMetrics endpoint, Supplier<CompletableFuture<HttpResponse<byte[]>>> exchange) {
+        RequestThrottle throttle = ApiConfig.throttle();
+        if (!throttle.isEnabled()) {
+            return exchange.get();
+        }
+        return CompletableFuture.supplyAsync(() -> throttle.acquire(endpoint.getName()), Client.THROTTLE_WAITERS)
+                .thenCompose(waitNanos -> {
+                    endpoint.recordThrottleWait(waitNanos);
+                    long start = System.nanoTime();
+                    return exchange.get().whenComplete((response, error) -> {
+                        if (cancelled(error)) {
+                            throttle.abandon();
+                        } else {
+                            throttle.release(response == null ? -1 : response.statusCode(), System.nanoTime() - start);
+                        }
+                    });
+                });
+    }
+
+    private static boolean cancelled(Throwable error) {
+        return error instanceof CancellationException
+                || (error instanceof CompletionException && error.getCause() instanceof CancellationException);
+    }
+
+    private static CompletableFuture<Response> replay(EndpointMetrics endpoint, String method, String path, byte[] body,
+                                                      boolean auth) {
+        long start = System.nanoTime();
+        try {
+            Response response = ExchangeRecorder.getInstance().replay(method, path, auth, body, Map.of());
+            LatencyMetrics.getInstance().record(endpoint, start, System.nanoTime(), response.statusCode());
+            return CompletableFuture.completedFuture(response);
+        } catch (RuntimeException e) {
+            LatencyMetrics.getInstance().record(endpoint, start, System.nanoTime(), -1);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static void record(String method, String path, boolean auth, byte[] body, HttpResponse<byte[]> response,
+                               long startMillis, long durationNanos) {
+        ExchangeRecorder.getInstance().record(method, path, auth, body, Map.of(), headerList(response.request().headers()),
+                response.statusCode(), headerList(response.headers()), response.body(), startMillis, durationNanos);
+    }
+
+    private static List<String[]> headerList(HttpHeaders httpHeaders) {
+        List<String[]> headers = new ArrayList<>();
+        httpHeaders.map().forEach((name, values) -> values.forEach(value -> headers.add(new String[]{name, value})));
+        return headers;
+    }
+
+    private static HttpRequest request(String method, String path, byte[] body, boolean auth, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(Client.BASE_URL + path))
+                .timeout(Client.REQUEST_TIMEOUT)
+                .header("Content-Type", ContentType.JSON.toString())
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body));
+        if (token != null) {
+            builder.header("Cookie", "token=" + token);
+        } else if (auth) {
+            builder.header("Authorization", ApiConfig.basicAuthHeader());
+        }
+        return builder.build();
+    }
+
+    private static Response toResponse(HttpResponse<byte[]> response) {
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) -> values.forEach(value -> headers.add(new Header(name, value))));
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(response.statusCode())
+                .setStatusLine(response.version() + " " + response.statusCode())
+                .setHeaders(new Headers(headers))
+                .setBody(response.body());
+        response.headers().firstValue("Content-Type").ifPresent(builder::setContentType);
+        return builder.build();
+    }
+
+    private static CompletableFuture<String> token() {
+        return TokenCache.getInstance().getTokenAsync(ApiConstants.VALID_USERNAME, ApiConstants.VALID_PASSWORD);
+    }
+
+    private static final class HedgedGet {
+        private final EndpointMetrics endpoint;
+        private final String path;
+        private final boolean auth;
+        private final HttpRequest request;
+        private final CompletableFuture<Response> result = new CompletableFuture<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final Queue<CompletableFuture<?>> exchanges = new ConcurrentLinkedQueue<>();
+
+        private HedgedGet(EndpointMetrics endpoint, String path, boolean auth, String token) {
+            this.endpoint = endpoint;
+            this.path = path;
+            this.auth = auth;
+            this.request = request("GET", path, null, auth, token);
+        }
+
+        private CompletableFuture<Response> start() {
+            long start = System.nanoTime();
+            attempt(false);
+            long delay = HEDGING.hedgeDelayNanos(endpoint);
+            if (delay != HedgingPolicy.NO_HEDGE) {
+                CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, Client.EXECUTOR).execute(() -> {
+                    if (!result.isDone() && HEDGING.tryAcquireHedge()) {
+                        attempt(true);
+                    }
+                });
+            }
+            // cancelling the JDK client's future aborts the exchange, so the slower attempt stops loading the server;
+            // the endpoint records what the caller waited, from the first attempt to the winning response
+            result.whenComplete((response, error) -> {
+                LatencyMetrics.getInstance().record(endpoint, start, System.nanoTime(),
+                        response == null ? -1 : response.statusCode());
+                exchanges.forEach(exchange -> exchange.cancel(true));
+            });
+            return result;
+        }
+
+        private void attempt(boolean hedge) {
+            pending.incrementAndGet();
+            Client.LIMITER.submit(() -> {
+                if (result.isDone()) {
+                    return answered();
+                }
+                long startMillis = RECORDING_MODE == RecordingMode.RECORD ? System.currentTimeMillis() : 0;
+                long start = System.nanoTime();
+                return throttled(endpoint, () -> {
+                    // the other attempt may have answered while this one waited for the throttle
+                    if (result.isDone()) {
+                        return answered();
+                    }
+                    CompletableFuture<HttpResponse<byte[]>> exchange =
+                            Client.HTTP_CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+                    exchanges.add(exchange);
+                    if (result.isDone()) {
+                        exchange.cancel(true);
+                    }
+                    return exchange;
+                }).whenComplete((response, error) -> complete(response, error, hedge, start, startMillis));
+            });
+        }
+
+        private static <T> CompletableFuture<T> answered() {
+            return CompletableFuture.failedFuture(new CancellationException("Hedged GET already answered"));
+        }
+
+        private void complete(HttpResponse<byte[]> response, Throwable error, boolean hedge, long start,
+                              long startMillis) {
+            if (cancelled(error)) {
+                return;
+            }
+            long end = System.nanoTime();
+            HEDGING.recordAttempt(endpoint, end - start);
+            if (response == null) {
+                if (pending.decrementAndGet() == 0) {
+                    result.completeExceptionally(error);
+                }
+                return;
+            }
+            if (RECORDING_MODE == RecordingMode.RECORD) {
+                record("GET", path, auth, null, response, startMillis, end - start);
+            }
+            if (result.complete(toResponse(response)) && hedge) {
+                HEDGING.hedgeWon();
+            }
+        }
+    }
+
+    private static final class Client {
+        private static final AsyncClientSettings SETTINGS = AsyncClientSettings.fromSystemProperties();
+        private static final String BASE_URL = ApiConfig.baseUrl();
+        private static final Duration REQUEST_TIMEOUT = Duration.ofMillis(SETTINGS.requestTimeoutMs());
+        private static final InFlightLimiter LIMITER = new InFlightLimiter(SETTINGS.maxInFlight());
+        private static final ExecutorService EXECUTOR = executor(SETTINGS.threads());
+        private static final ExecutorService THROTTLE_WAITERS =
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("restBooker-throttle-", 0).factory());
+
+        private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+                .version(SETTINGS.http2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(SETTINGS.connectTimeoutMs()))
+                .executor(EXECUTOR)
+                .build();
+
+        private static ExecutorService executor(int threads) {
+            AtomicInteger counter = new AtomicInteger();
+            return Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "restBooker-async-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
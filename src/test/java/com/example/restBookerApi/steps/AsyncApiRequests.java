@@ -0,0 +1,64 @@
+package com.example.restBookerApi.steps;
+
+import com.example.restBookerApi.utis.authentication.AuthenticationRequest;
+import com.example.restBookerApi.utis.fixtures.CreatedBookingRegistry;
+import com.example.restBookerApi.utis.requestbodies.BookingRequest;
+import io.restassured.response.Response;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncApiRequests {
+
+    public static CompletableFuture<Response> getAuthenticationToken(AuthenticationRequest request) {
+        byte[] body = request.requestBody.toString().getBytes(StandardCharsets.UTF_8);
+        return AsyncApiConfig.sendRequest("POST", "/auth", body, false);
+    }
+
+    public static CompletableFuture<Response> getBooking(String firstname, String lastname) {
+        String queryParameters = "?firstname=" + firstname + "&lastname=" + lastname;
+        return AsyncApiConfig.sendHedgedGet("/booking" + queryParameters, true);
+    }
+
+    public static CompletableFuture<Response> getBookingById(String bookingId) {
+        return AsyncApiConfig.sendHedgedGet("/booking/", bookingId, true);
+    }
+
+    public static CompletableFuture<Response> createBooking(BookingRequest request) {
+        return AsyncApiConfig.sendRequest("POST", "/booking", request.toJsonBytes(), true)
+                .whenComplete((response, error) -> {
+                    if (response != null) {
+                        CreatedBookingRegistry.getInstance().registerCreated(response);
+                    }
+                });
+    }
+
+    public static CompletableFuture<Response> updateBooking(String bookingId, BookingRequest request) {
+        return AsyncApiConfig.sendRequest("PUT", "/booking/", bookingId, request.toJsonBytes(), true);
+    }
+
+    public static CompletableFuture<Response> updateBookingNoAuth(String bookingId, BookingRequest request) {
+        return AsyncApiConfig.sendRequest("PUT", "/booking/", bookingId, request.toJsonBytes(), false);
+    }
+
+    public static CompletableFuture<Response> partialUpdateBooking(String bookingId, BookingRequest request) {
+        return AsyncApiConfig.sendRequest("PATCH", "/booking/", bookingId, request.toJsonBytes(), true);
+    }
+
+    public static CompletableFuture<Response> partialUpdateBookingNoAuth(String bookingId, BookingRequest request) {
+        return AsyncApiConfig.sendRequest("PATCH", "/booking/", bookingId, request.toJsonBytes(), false);
+    }
+
+    public static CompletableFuture<Response> deleteBooking(String bookingId) {
+        return AsyncApiConfig.sendRequest("DELETE", "/booking/", bookingId, null, true)
+                .whenComplete((response, error) -> {
+                    if (response != null) {
+                        CreatedBookingRegistry.getInstance().registerDeleted(bookingId, response);
+                    }
+                });
+    }
+
+    public static CompletableFuture<Response> deleteBookingNoAuth(String bookingId) {
+        return AsyncApiConfig.sendRequest("DELETE", "/booking/", bookingId, null, false);
+    }
+}
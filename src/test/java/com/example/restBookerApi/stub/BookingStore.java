@@ -0,0 +1,131 @@
+package com.example.restBookerApi.stub;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+class BookingStore {
+    static final String DATE_PATTERN = "^\\d{4}-\\d{2}-\\d{2}$";
+    private static final Pattern DATE = Pattern.compile(DATE_PATTERN);
+    private final Map<Integer, StoredBooking> bookings = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger(1);
+
+    StoredBooking create(JSONObject booking) {
+        int id = nextId.getAndIncrement();
+        StoredBooking stored = new StoredBooking(id, booking);
+        bookings.put(id, stored);
+        return stored;
+    }
+
+    StoredBooking get(int id) {
+        return bookings.get(id);
+    }
+
+    StoredBooking replace(int id, JSONObject booking) {
+        StoredBooking stored = new StoredBooking(id, booking);
+        return bookings.replace(id, stored) != null ? stored : null;
+    }
+
+    StoredBooking merge(int id, JSONObject changes) {
+        return bookings.computeIfPresent(id, (key, current) -> {
+            JSONObject merged = new JSONObject(current.data().toMap());
+            for (String field : changes.keySet()) {
+                merged.put(field, changes.get(field));
+            }
+            return new StoredBooking(id, merged);
+        });
+    }
+
+    boolean delete(int id) {
+        return bookings.remove(id) != null;
+    }
+
+    String search(String firstname, String lastname, String checkin, String checkout) {
+        JSONArray ids = new JSONArray();
+        bookings.values().stream()
+                .filter(booking -> booking.matches(firstname, lastname, checkin, checkout))
+                .mapToInt(StoredBooking::id)
+                .sorted()
+                .forEach(id -> ids.put(new JSONObject().put("bookingid", id)));
+        return ids.toString();
+    }
+
+    static JSONObject invalidDates(JSONObject booking) {
+        JSONObject errors = new JSONObject();
+        JSONObject dates = booking.optJSONObject("bookingdates");
+        if (dates != null) {
+            for (String field : new String[]{"checkin", "checkout"}) {
+                if (dates.opt(field) instanceof String date && !isDate(date)) {
+                    errors.put(field, DATE_PATTERN);
+                }
+            }
+        }
+        return errors;
+    }
+
+    static boolean isValidBooking(JSONObject booking) {
+        return booking.opt("firstname") instanceof String
+                && booking.opt("lastname") instanceof String
+                && isValidField(booking, "totalprice")
+                && booking.opt("depositpaid") instanceof Boolean
+                && isValidField(booking, "bookingdates")
+                && (!booking.has("additionalneeds") || isValidField(booking, "additionalneeds"));
+    }
+
+    static boolean isValidPatch(JSONObject changes) {
+        if (changes.isEmpty()) {
+            return false;
+        }
+        for (String field : changes.keySet()) {
+            if (!isValidField(changes, field)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isValidField(JSONObject booking, String field) {
+        Object value = booking.opt(field);
+        return switch (field) {
+            case "firstname", "lastname", "additionalneeds" -> value instanceof String;
+            case "totalprice" -> value instanceof Integer || value instanceof Long;
+            case "depositpaid" -> value instanceof Boolean;
+            case "bookingdates" -> value instanceof JSONObject dates
+                    && dates.opt("checkin") instanceof String checkin && isDate(checkin)
+                    && dates.opt("checkout") instanceof String checkout && isDate(checkout);
+            default -> false;
+        };
+    }
+
+    private static boolean isDate(String value) {
+        if (!DATE.matcher(value).matches()) {
+            return false;
+        }
+        try {
+            LocalDate.parse(value);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    record StoredBooking(int id, JSONObject data, String json) {
+        StoredBooking(int id, JSONObject data) {
+            this(id, data, data.toString());
+        }
+
+        boolean matches(String firstname, String lastname, String checkin, String checkout) {
+            JSONObject dates = data.optJSONObject("bookingdates");
+            return (firstname == null || firstname.equals(data.optString("firstname")))
+                    && (lastname == null || lastname.equals(data.optString("lastname")))
+                    && (checkin == null || dates != null && dates.optString("checkin").compareTo(checkin) >= 0)
+                    && (checkout == null || dates != null && dates.optString("checkout").compareTo(checkout) <= 0);
+        }
+    }
+}
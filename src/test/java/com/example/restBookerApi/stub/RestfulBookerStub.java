@@ -0,0 +1,290 @@
+package com.example.restBookerApi.stub;
+
+import com.example.restBookerApi.utis.authentication.ApiConstants;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+public class RestfulBookerStub {
+    private static final Logger LOGGER = Logger.getLogger("Restful-booker stub");
+    private static final List<String> BOOKING_FIELDS =
+            List.of("firstname", "lastname", "totalprice", "depositpaid", "bookingdates", "additionalneeds");
+    private static final String BAD_CREDENTIALS = "{\"reason\":\"Bad Credentials\"}";
+    private static final String BAD_REQUEST = "{\"reason\":\"Bad Request\"}";
+    private static final String FORBIDDEN = "{\"reason\":\"Forbidden\"}";
+    private static final String NOT_FOUND = "{\"reason\":\"Not Found\"}";
+    private static final String METHOD_NOT_ALLOWED = "{\"reason\":\"Method Not Allowed\"}";
+    private static RestfulBookerStub shared;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newFixedThreadPool(
+            Integer.getInteger("restBooker.stub.threads", Math.max(8, Runtime.getRuntime().availableProcessors() * 4)),
+            runnable -> {
+                Thread thread = new Thread(runnable, "restBooker-stub-worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+    private final BookingStore store = new BookingStore();
+    private final Set<String> tokens = ConcurrentHashMap.newKeySet();
+    private final SecureRandom random = new SecureRandom();
+    private final String username;
+    private final String password;
+    private final String basicAuthorization;
+
+    private RestfulBookerStub(int port, String username, String password) {
+        this.username = username;
+        this.password = password;
+        this.basicAuthorization = "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.createContext("/ping", exchange -> send(exchange, 201, ""));
+        server.createContext("/auth", this::handleAuth);
+        server.createContext("/booking", this::handleBooking);
+        server.setExecutor(executor);
+    }
+
+    public static RestfulBookerStub start(int port, String username, String password) {
+        RestfulBookerStub stub = new RestfulBookerStub(port, username, password);
+        stub.server.start();
+        LOGGER.info(() -> "Restful-booker stub listening on " + stub.getBaseUrl());
+        return stub;
+    }
+
+    public static synchronized RestfulBookerStub shared() {
+        if (shared == null) {
+            shared = start(0, ApiConstants.VALID_USERNAME, ApiConstants.VALID_PASSWORD);
+            Runtime.getRuntime().addShutdownHook(new Thread(RestfulBookerStub::stopShared));
+        }
+        return shared;
+    }
+
+    public static synchronized void stopShared() {
+        if (shared != null) {
+            shared.stop();
+            shared = null;
+        }
+    }
+
+    public static void main(String[] args) {
+        start(Integer.getInteger("restBooker.stub.port", 3001), ApiConstants.VALID_USERNAME, ApiConstants.VALID_PASSWORD);
+    }
+
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleAuth(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            send(exchange, 405, METHOD_NOT_ALLOWED);
+            return;
+        }
+        JSONObject credentials = readJson(exchange);
+        if (credentials != null
+                && username.equals(credentials.opt("username"))
+                && password.equals(credentials.opt("password"))) {
+            byte[] bytes = new byte[8];
+            random.nextBytes(bytes);
+            String token = HexFormat.of().formatHex(bytes).substring(0, 15);
+            tokens.add(token);
+            send(exchange, 200, new JSONObject().put("token", token).toString());
+        } else {
+            send(exchange, 400, BAD_CREDENTIALS);
+        }
+    }
+
+    private void handleBooking(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String method = exchange.getRequestMethod();
+        if (path.equals("/booking")) {
+            switch (method) {
+                case "GET" -> searchBookings(exchange);
+                case "POST" -> createBooking(exchange);
+                default -> send(exchange, 405, METHOD_NOT_ALLOWED);
+            }
+            return;
+        }
+
+        String id = path.startsWith("/booking/") ? path.substring("/booking/".length()) : "";
+        switch (method) {
+            case "GET" -> getBooking(exchange, id);
+            case "PUT", "PATCH", "DELETE" -> {
+                if (!isAuthorized(exchange)) {
+                    send(exchange, 403, FORBIDDEN);
+                    return;
+                }
+                Integer bookingId = parseId(id);
+                if (bookingId == null || store.get(bookingId) == null) {
+                    send(exchange, 404, NOT_FOUND);
+                } else if (method.equals("DELETE")) {
+                    deleteBooking(exchange, bookingId);
+                } else {
+                    updateBooking(exchange, bookingId, method.equals("PATCH"));
+                }
+            }
+            default -> send(exchange, 405, METHOD_NOT_ALLOWED);
+        }
+    }
+
+    private void searchBookings(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        send(exchange, 200, store.search(query.get("firstname"), query.get("lastname"),
+                query.get("checkin"), query.get("checkout")));
+    }
+
+    private void getBooking(HttpExchange exchange, String id) throws IOException {
+        Integer bookingId = parseId(id);
+        BookingStore.StoredBooking booking = bookingId == null ? null : store.get(bookingId);
+        if (booking == null) {
+            send(exchange, 404, NOT_FOUND);
+        } else {
+            send(exchange, 200, booking.json());
+        }
+    }
+
+    private void createBooking(HttpExchange exchange) throws IOException {
+        JSONObject booking = readJson(exchange);
+        if (rejectInvalid(exchange, booking, false)) {
+            return;
+        }
+        BookingStore.StoredBooking stored = store.create(sanitize(booking));
+        send(exchange, 200, "{\"bookingid\":" + stored.id() + ",\"booking\":" + stored.json() + "}");
+    }
+
+    private void updateBooking(HttpExchange exchange, int bookingId, boolean partial) throws IOException {
+        JSONObject booking = readJson(exchange);
+        if (rejectInvalid(exchange, booking, partial)) {
+            return;
+        }
+        BookingStore.StoredBooking stored = partial
+                ? store.merge(bookingId, sanitize(booking))
+                : store.replace(bookingId, sanitize(booking));
+        if (stored == null) {
+            send(exchange, 404, NOT_FOUND);
+        } else {
+            send(exchange, 200, stored.json());
+        }
+    }
+
+    private void deleteBooking(HttpExchange exchange, int bookingId) throws IOException {
+        if (store.delete(bookingId)) {
+            send(exchange, 201, "");
+        } else {
+            send(exchange, 404, NOT_FOUND);
+        }
+    }
+
+    private boolean rejectInvalid(HttpExchange exchange, JSONObject booking, boolean partial) throws IOException {
+        if (booking == null) {
+            send(exchange, 400, BAD_REQUEST);
+            return true;
+        }
+        JSONObject invalidDates = BookingStore.invalidDates(booking);
+        if (!invalidDates.isEmpty()) {
+            send(exchange, 400, invalidDates.put("reason", "Bad Request").toString());
+            return true;
+        }
+        if (partial ? !BookingStore.isValidPatch(sanitize(booking)) : !BookingStore.isValidBooking(booking)) {
+            send(exchange, 400, BAD_REQUEST);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isAuthorized(HttpExchange exchange) {
+        if (basicAuthorization.equals(exchange.getRequestHeaders().getFirst("Authorization"))) {
+            return true;
+        }
+        List<String> cookies = exchange.getRequestHeaders().get("Cookie");
+        if (cookies != null) {
+            for (String header : cookies) {
+                for (String cookie : header.split(";")) {
+                    String trimmed = cookie.trim();
+                    if (trimmed.startsWith("token=") && tokens.contains(trimmed.substring("token=".length()))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static JSONObject sanitize(JSONObject booking) {
+        JSONObject sanitized = new JSONObject();
+        for (String field : BOOKING_FIELDS) {
+            if (booking.has(field)) {
+                sanitized.put(field, booking.get(field));
+            }
+        }
+        return sanitized;
+    }
+
+    private static JSONObject readJson(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        try {
+            return body.isBlank() ? null : new JSONObject(body);
+        } catch (JSONException e) {
+            return null;
+        }
+    }
+
+    private static Integer parseId(String id) {
+        try {
+            return Integer.valueOf(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                String[] parts = pair.split("=", 2);
+                query.put(URLDecoder.decode(parts[0], StandardCharsets.UTF_8),
+                        parts.length > 1 ? URLDecoder.decode(parts[1], StandardCharsets.UTF_8) : "");
+            }
+        }
+        return query;
+    }
+
+    private static void send(HttpExchange exchange, int statusCode, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(statusCode, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            exchange.getResponseBody().write(bytes);
+        }
+        exchange.close();
+    }
+}
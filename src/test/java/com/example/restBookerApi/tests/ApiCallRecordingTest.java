@@ -0,0 +1,54 @@
+package com.example.restBookerApi.tests;
+
+import com.example.restBookerApi.steps.ApiRequests;
+import com.example.restBookerApi.steps.AsyncApiConfig;
+import com.example.restBookerApi.utis.jfr.ApiCallAnalyzer;
+import com.example.restBookerApi.utis.jfr.ApiCallEvent;
+import com.example.restBookerApi.utis.jfr.ResponseValidationEvent;
+import com.example.restBookerApi.utis.recording.ExchangeRecorder;
+import com.example.restBookerApi.utis.recording.RecordingMode;
+import com.example.restBookerApi.utis.validation.ResponseValidation;
+import io.restassured.response.Response;
+import jdk.jfr.Recording;
+import org.assertj.core.api.Assertions;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class ApiCallRecordingTest {
+
+    @Test
+    public void recordsSplitsOfEveryCall() throws IOException {
+        if (AsyncApiConfig.hedgingEnabled()) {
+            throw new SkipException("Hedged GETs go through the async client, which emits no API call events");
+        }
+        Path file = Files.createTempFile("api-calls", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ApiCallEvent.class);
+            recording.enable(ResponseValidationEvent.class);
+            recording.start();
+            Response response = ApiRequests.getBooking("John", "Dough");
+            new ResponseValidation().check(response).statusCode(200).schema("getBooking").verify();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        ApiCallAnalyzer.Call call = ApiCallAnalyzer.read(file).calls().stream()
+                .filter(recorded -> recorded.pathTemplate().equals("/booking"))
+                .findFirst()
+                .orElseThrow();
+        Assertions.assertThat(call.method()).isEqualTo("GET");
+        Assertions.assertThat(call.statusCode()).isEqualTo(200);
+        Assertions.assertThat(call.responseBytes()).isPositive();
+        Assertions.assertThat(call.replayed()).isEqualTo(ExchangeRecorder.getInstance().getMode() == RecordingMode.REPLAY);
+        if (call.replayed()) {
+            Assertions.assertThat(call.timeToFirstByte()).isZero();
+        } else {
+            Assertions.assertThat(call.timeToFirstByte()).isPositive().isLessThanOrEqualTo(call.duration());
+        }
+        Files.deleteIfExists(file);
+    }
+}
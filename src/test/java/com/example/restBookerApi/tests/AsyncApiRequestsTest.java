@@ -0,0 +1,49 @@
+package com.example.restBookerApi.tests;
+
+import com.example.restBookerApi.steps.AsyncApiRequests;
+import com.example.restBookerApi.utis.requestbodies.BookingDates;
+import com.example.restBookerApi.utis.requestbodies.BookingRequest;
+import com.example.restBookerApi.utis.validation.ResponseValidation;
+import io.restassured.response.Response;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+public class AsyncApiRequestsTest {
+    // kept small because its calls count towards the performance gate, AsyncBurst runs the large version
+    private static final int BOOKINGS = 5;
+    private final ResponseValidation validation = new ResponseValidation();
+
+    @Test
+    public void bookingLifecycleInFlight() {
+        BookingRequest request = new BookingRequest.Builder()
+                .setFirstName("Async")
+                .setLastName("Booking")
+                .setTotalPrice(111)
+                .setDepositPaid(true)
+                .setBookingDates(new BookingDates("2018-01-01", "2019-01-01"))
+                .setAdditionalNeeds("Breakfast")
+                .build();
+
+        List<CompletableFuture<Response>> lifecycles = IntStream.range(0, BOOKINGS)
+                .mapToObj(i -> AsyncApiRequests.createBooking(request)
+                        .thenCompose(created -> {
+                            String bookingId = validation.check(created)
+                                    .statusCode(200)
+                                    .schema("createBooking")
+                                    .verify()
+                                    .getString("bookingid");
+                            return AsyncApiRequests.getBookingById(bookingId)
+                                    .thenCompose(booking -> {
+                                        validation.check(booking).headers().schema("getBookingById").verify();
+                                        return AsyncApiRequests.deleteBooking(bookingId);
+                                    });
+                        }))
+                .toList();
+
+        CompletableFuture.allOf(lifecycles.toArray(CompletableFuture[]::new)).join();
+        lifecycles.forEach(deleted -> validation.validateResponseStatusCode(deleted.join(), 201));
+    }
+}
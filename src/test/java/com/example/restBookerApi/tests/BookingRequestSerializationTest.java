@@ -0,0 +1,70 @@
+package com.example.restBookerApi.tests;
+
+import com.example.restBookerApi.utis.requestbodies.BookingDates;
+import com.example.restBookerApi.utis.requestbodies.BookingRequest;
+import org.assertj.core.api.Assertions;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+
+public class BookingRequestSerializationTest {
+
+    @DataProvider(name = "bookingRequests", parallel = true)
+    public Object[][] bookingRequests() {
+        BookingDates bookingDates = new BookingDates("2018-01-01", "2019-01-01");
+        return new Object[][]{
+                {"full body", new BookingRequest.Builder()
+                        .setFirstName("John")
+                        .setLastName("Dough")
+                        .setTotalPrice(111)
+                        .setDepositPaid(true)
+                        .setBookingDates(bookingDates)
+                        .setAdditionalNeeds("Breakfast")
+                        .build()},
+                {"partial update body", new BookingRequest.Builder()
+                        .setFirstName("Albert")
+                        .setLastName("Einstein")
+                        .build()},
+                {"empty body", new BookingRequest.Builder().build()},
+                {"missing last name", new BookingRequest.Builder()
+                        .setFirstName("John")
+                        .setTotalPrice(111)
+                        .setDepositPaid(true)
+                        .setBookingDates(bookingDates)
+                        .setAdditionalNeeds("Breakfast")
+                        .build()},
+                {"int typed names", new BookingRequest.Builder()
+                        .setFirstname(111)
+                        .setLastname(111)
+                        .setTotalPrice(111)
+                        .setDepositPaid(true)
+                        .setBookingDates(bookingDates)
+                        .setAdditionalNeeds("Breakfast")
+                        .build()},
+                {"partial booking dates", new BookingRequest.Builder()
+                        .setFirstName("John")
+                        .setLastName("Dough")
+                        .setTotalPrice(Integer.MIN_VALUE)
+                        .setBookingDates(new BookingDates(null, "21000"))
+                        .build()},
+                {"characters that need escaping", new BookingRequest.Builder()
+                        .setFirstName("Jo\"hn\\ </script> a/b \b\t\n\f\r \u0001\u001f")
+                        .setLastName("Dœugh \u0085\u009f    €℀ 😀 \ud800x")
+                        .setTotalPrice(-42)
+                        .setDepositPaid(false)
+                        .setBookingDates(new BookingDates("2018-01-01\u0000", "<\\/"))
+                        .setAdditionalNeeds("")
+                        .build()}
+        };
+    }
+
+    @Test(dataProvider = "bookingRequests")
+    public void jsonBytesMatchJsonObjectSerialization(String description, BookingRequest request) {
+        byte[] expected = request.toJSONObject().toString().getBytes(StandardCharsets.UTF_8);
+
+        Assertions.assertThat(request.toJsonBytes())
+                .as(description)
+                .isEqualTo(expected);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.restBookerApi.tests;
+
+import com.example.restBookerApi.load.ConsistencyChecker;
+import com.example.restBookerApi.load.ConsistencyResult;
+import com.example.restBookerApi.load.HistoryEntry;
+import org.assertj.core.api.Assertions;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+public class ConsistencyCheckerTest {
+
+    @Test
+    public void acceptsLinearizableHistory() {
+        ConsistencyResult result = ConsistencyChecker.check(List.of(
+                entry(HistoryEntry.Kind.CREATE, 1, 1, 0, 10),
+                entry(HistoryEntry.Kind.PUT, 2, 2, 20, 30),
+                entry(HistoryEntry.Kind.READ, 2, 2, 35, 40),
+                entry(HistoryEntry.Kind.PATCH, 3, -1, 50, 60),
+                entry(HistoryEntry.Kind.READ, 3, 2, 70, 80),
+                entry(HistoryEntry.Kind.FINAL_READ, 3, 2, 100, 110)));
+
+        Assertions.assertThat(result.isConsistent()).as(result.examples().toString()).isTrue();
+        Assertions.assertThat(result.operations()).isEqualTo(6);
+    }
+
+    @Test
+    public void detectsStaleRead() {
+        ConsistencyResult result = ConsistencyChecker.check(List.of(
+                entry(HistoryEntry.Kind.CREATE, 1, 1, 0, 10),
+                entry(HistoryEntry.Kind.PUT, 2, 2, 20, 30),
+                entry(HistoryEntry.Kind.READ, 1, 1, 40, 50)));
+
+        Assertions.assertThat(result.nonLinearizableReads()).isPositive();
+        Assertions.assertThat(result.lostUpdates()).isZero();
+    }
+
+    @Test
+    public void detectsLostUpdate() {
+        ConsistencyResult result = ConsistencyChecker.check(List.of(
+                entry(HistoryEntry.Kind.CREATE, 1, 1, 0, 10),
+                entry(HistoryEntry.Kind.PUT, 2, 2, 20, 30),
+                entry(HistoryEntry.Kind.PUT, 3, 3, 40, 50),
+                entry(HistoryEntry.Kind.FINAL_READ, 2, 2, 100, 110)));
+
+        Assertions.assertThat(result.lostUpdates()).isPositive();
+        Assertions.assertThat(result.examples()).isNotEmpty();
+    }
+
+    @Test
+    public void detectsTornRead() {
+        ConsistencyResult result = ConsistencyChecker.check(List.of(
+                entry(HistoryEntry.Kind.CREATE, 1, 1, 0, 10),
+                entry(HistoryEntry.Kind.PUT, 2, 2, 20, 30),
+                entry(HistoryEntry.Kind.READ, 2, 1, 40, 50)));
+
+        Assertions.assertThat(result.tornReads()).isEqualTo(1);
+        Assertions.assertThat(result.isConsistent()).isFalse();
+    }
+
+    private static HistoryEntry entry(HistoryEntry.Kind kind, long name, long price, long invokedAt, long completedAt) {
+        return new HistoryEntry(kind, "1", name, price, invokedAt, completedAt, HistoryEntry.Outcome.OK);
+    }
+}
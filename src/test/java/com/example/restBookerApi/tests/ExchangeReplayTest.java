@@ -0,0 +1,78 @@
+package com.example.restBookerApi.tests;
+
+import com.example.restBookerApi.utis.recording.ExchangeRecorder;
+import com.example.restBookerApi.utis.recording.RecordingMode;
+import io.restassured.response.Response;
+import org.assertj.core.api.Assertions;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+public class ExchangeReplayTest {
+    private static final String BOOKING = "{\"firstname\":\"Jim\",\"lastname\":\"Brown\"}";
+    private static final List<String[]> JSON = List.<String[]>of(
+            new String[]{"Content-Type", "application/json; charset=utf-8"},
+            new String[]{"X-Powered-By", "Express"});
+    private Path file;
+    private ExchangeRecorder replay;
+
+    @BeforeClass
+    public void record() throws IOException {
+        file = Files.createTempFile("exchanges", ".rbx");
+        List<String[]> sent = List.<String[]>of(new String[]{"Cookie", "token=abc123"});
+        try (ExchangeRecorder recorder = new ExchangeRecorder(RecordingMode.RECORD, file, 16)) {
+            recorder.record("GET", "/booking/12", true, null, Map.of(), sent, 200, JSON,
+                    BOOKING.getBytes(StandardCharsets.UTF_8), 0, 1_000_000);
+            recorder.record("GET", "/booking/12", true, null, Map.of(), sent, 404, List.of(),
+                    "Not Found".getBytes(StandardCharsets.UTF_8), 0, 1_000_000);
+            recorder.record("GET", "/booking?lastname=Brown&firstname=Jim", true, null, Map.of(), sent, 200, JSON,
+                    "[{\"bookingid\":12}]".getBytes(StandardCharsets.UTF_8), 0, 1_000_000);
+            recorder.record("POST", "/booking", true, BOOKING.getBytes(StandardCharsets.UTF_8), Map.of(), sent, 200,
+                    JSON, "{\"bookingid\":12}".getBytes(StandardCharsets.UTF_8), 0, 1_000_000);
+        }
+        replay = new ExchangeRecorder(RecordingMode.REPLAY, file, 16);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteLog() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void replaysStatusHeadersAndBodyForAnyBookingId() {
+        Response response = replay.replay("GET", "/booking/47", true, null, Map.of());
+
+        Assertions.assertThat(response.statusCode()).isEqualTo(200);
+        Assertions.assertThat(response.header("Content-Type")).isEqualTo("application/json; charset=utf-8");
+        Assertions.assertThat(response.header("X-Powered-By")).isEqualTo("Express");
+        Assertions.assertThat(response.asString()).isEqualTo(BOOKING);
+        Assertions.assertThat(response.jsonPath().getString("firstname")).isEqualTo("Jim");
+
+        // repeated requests get the recorded answers in order, then the last one again
+        Assertions.assertThat(replay.replay("GET", "/booking/3", true, null, Map.of()).statusCode()).isEqualTo(404);
+        Assertions.assertThat(replay.replay("GET", "/booking/12", true, null, Map.of()).asString())
+                .isEqualTo("Not Found");
+    }
+
+    @Test
+    public void matchesQueriesInAnyOrderAndBodiesExactly() {
+        Assertions.assertThat(replay.replay("GET", "/booking?firstname=Jim&lastname=Brown", true, null, Map.of())
+                .jsonPath().getInt("[0].bookingid")).isEqualTo(12);
+        Assertions.assertThat(replay.replay("POST", "/booking", true, BOOKING, Map.of()).statusCode()).isEqualTo(200);
+
+        Assertions.assertThatIllegalStateException()
+                .isThrownBy(() -> replay.replay("POST", "/booking", true, "{}", Map.of()));
+        Assertions.assertThatIllegalStateException()
+                .isThrownBy(() -> replay.replay("GET", "/booking/12", false, null, Map.of()));
+        Assertions.assertThatIllegalStateException()
+                .isThrownBy(() -> replay.replay("GET", "/booking/12", true, null, Map.of("X-Trace", "1")));
+        Assertions.assertThat(replay.stats()).contains("exchanges=4", "keys=3");
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.restBookerApi.tests;
+
+import com.example.restBookerApi.utis.validation.SchemaCache;
+import com.example.restBookerApi.utis.validation.SchemaValidator;
+import com.example.restBookerApi.utis.validation.generated.GeneratedSchemaValidators;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jackson.JacksonUtils;
+import org.assertj.core.api.Assertions;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class GeneratedSchemaValidatorTest {
+    // same mapper settings as ValidatedResponse, decimals are read as BigDecimal
+    private static final ObjectMapper MAPPER = JacksonUtils.newMapper();
+    private static final String BOOKING = "{\"firstname\":\"John\",\"lastname\":\"Dough\",\"totalprice\":111,"
+            + "\"depositpaid\":true,\"bookingdates\":{\"checkin\":\"2018-01-01\",\"checkout\":\"2019-01-01\"},"
+            + "\"additionalneeds\":\"Breakfast\"}";
+    private static final List<String> BOOKING_VARIANTS = List.of(
+            BOOKING,
+            BOOKING.replace("\"firstname\":\"John\",", ""),
+            BOOKING.replace("\"John\"", "111"),
+            BOOKING.replace("111", "111.5"),
+            BOOKING.replace("111", "\"111\""),
+            BOOKING.replace("true", "\"true\""),
+            BOOKING.replace("\"checkout\":\"2019-01-01\"", "\"other\":1"),
+            BOOKING.replace("{\"checkin\":\"2018-01-01\",\"checkout\":\"2019-01-01\"}", "null"),
+            BOOKING.replace("\"Breakfast\"", "null"),
+            BOOKING.replace("}", ",\"extra\":[1,2]}"),
+            "{}",
+            "[]",
+            "\"booking\"",
+            "null");
+
+    @DataProvider(name = "bodies")
+    public Object[][] bodies() {
+        List<Object[]> rows = new ArrayList<>();
+        for (String booking : BOOKING_VARIANTS) {
+            rows.add(new Object[]{"getBookingByIdResponseSchema.json", booking});
+            rows.add(new Object[]{"updateBookingRequestSchema.json", booking});
+            rows.add(new Object[]{"partialUpdateBookingRequestSchema.json", booking});
+            rows.add(new Object[]{"createBookingResponseSchema.json", "{\"bookingid\":1,\"booking\":" + booking + "}"});
+        }
+        rows.add(new Object[]{"createBookingResponseSchema.json", "{\"bookingid\":\"1\",\"booking\":" + BOOKING + "}"});
+        rows.add(new Object[]{"createBookingResponseSchema.json", "{\"booking\":" + BOOKING + "}"});
+        for (String token : List.of("{\"token\":\"abc123\"}", "{\"token\":123}", "{\"reason\":\"Bad credentials\"}", "{}")) {
+            rows.add(new Object[]{"createTokenResponseSchema.json", token});
+        }
+        for (String list : List.of("[]", "[{\"bookingid\":1},{\"bookingid\":2}]", "[{\"bookingid\":1},{\"id\":2}]",
+                "[{\"bookingid\":1.5}]", "[{\"bookingid\":null}]", "[1,2]", "{\"bookingid\":1}")) {
+            rows.add(new Object[]{"getBookingResponseSchema.json", list});
+        }
+        return rows.toArray(new Object[0][]);
+    }
+
+    @Test(dataProvider = "bodies")
+    public void generatedValidatorAgreesWithGenericValidator(String schemaFileName, String body) throws Exception {
+        SchemaValidator generated = GeneratedSchemaValidators.forSchema(schemaFileName);
+        JsonNode node = MAPPER.readTree(body);
+
+        Assertions.assertThat(generated).as("generated validator for " + schemaFileName).isNotNull();
+        Assertions.assertThat(generated.matches(node))
+                .as(schemaFileName + " on " + body)
+                .isEqualTo(SchemaCache.getInstance().getSchema(schemaFileName).validate(node).isSuccess());
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.example.restBookerApi.tests;
+
+import com.example.restBookerApi.utis.http.InFlightLimiter;
+import org.assertj.core.api.Assertions;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class InFlightLimiterTest {
+
+    @Test
+    public void drainsSynchronouslyCompletingTasksWithoutRecursing() {
+        InFlightLimiter limiter = new InFlightLimiter(1);
+        CompletableFuture<Integer> blocker = new CompletableFuture<>();
+        CompletableFuture<Integer> first = limiter.submit(() -> blocker);
+        // answered() and replayed calls complete before submit returns, each one used to drain the next one recursively
+        List<CompletableFuture<Integer>> queued = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            int value = i;
+            queued.add(limiter.submit(() -> CompletableFuture.completedFuture(value)));
+        }
+        Assertions.assertThat(limiter.queued()).isEqualTo(100_000);
+
+        blocker.complete(-1);
+
+        Assertions.assertThat(first.join()).isEqualTo(-1);
+        for (int i = 0; i < queued.size(); i++) {
+            Assertions.assertThat(queued.get(i)).isCompletedWithValue(i);
+        }
+        Assertions.assertThat(limiter.inFlight()).isZero();
+        Assertions.assertThat(limiter.queued()).isZero();
+    }
+
+    @Test
+    public void keepsAtMostMaxInFlight() {
+        InFlightLimiter limiter = new InFlightLimiter(2);
+        List<CompletableFuture<String>> exchanges = new ArrayList<>();
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(limiter.submit(() -> {
+                CompletableFuture<String> exchange = new CompletableFuture<>();
+                exchanges.add(exchange);
+                return exchange;
+            }));
+        }
+        Assertions.assertThat(limiter.inFlight()).isEqualTo(2);
+        Assertions.assertThat(limiter.queued()).isEqualTo(3);
+
+        exchanges.get(0).completeExceptionally(new IllegalStateException("failed"));
+        Assertions.assertThat(results.get(0)).isCompletedExceptionally();
+        Assertions.assertThat(limiter.inFlight()).isEqualTo(2);
+        Assertions.assertThat(exchanges).hasSize(3);
+
+        for (int i = 1; i < 5; i++) {
+            exchanges.get(i).complete("done");
+        }
+        Assertions.assertThat(results.subList(1, 5)).allMatch(result -> result.join().equals("done"));
+        Assertions.assertThat(limiter.inFlight()).isZero();
+    }
+}
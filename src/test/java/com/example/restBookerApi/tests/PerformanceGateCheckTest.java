@@ -0,0 +1,90 @@
+package com.example.restBookerApi.tests;
+
+import com.example.restBookerApi.utis.metrics.LatencyReport;
+import com.example.restBookerApi.utis.metrics.PerformanceGate;
+import com.example.restBookerApi.utis.metrics.PerformanceGateSettings;
+import org.HdrHistogram.Histogram;
+import org.assertj.core.api.Assertions;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+public class PerformanceGateCheckTest {
+    private static final PrintStream DISCARD = new PrintStream(OutputStream.nullOutputStream());
+
+    @Test
+    public void failsOnSuiteLatencyRegression() throws IOException {
+        PerformanceGate gate = gate(PerformanceGate.Scenario.SUITE);
+        gate.writeBaseline(report(100, 10, 10));
+
+        Assertions.assertThat(gate.check(report(110, 10, 10), DISCARD)).isEmpty();
+        List<String> regressions = gate.check(report(500, 10, 10), DISCARD);
+        Assertions.assertThat(regressions).isNotEmpty();
+        Assertions.assertThat(regressions).anyMatch(regression -> regression.startsWith("ALL * p95"));
+    }
+
+    @Test
+    public void judgesSparseEndpointsThroughTheTotal() throws IOException {
+        PerformanceGate gate = gate(PerformanceGate.Scenario.SUITE);
+        gate.writeBaseline(report(100, 15, 10));
+
+        // 15 calls per endpoint are below the suite's sample floor, the 30 calls of both together are not
+        Assertions.assertThat(gate.check(report(500, 15, 10), DISCARD))
+                .singleElement().asString().startsWith("ALL * p95");
+    }
+
+    @Test
+    public void judgesThroughputOnlyForLoadRuns() throws IOException {
+        PerformanceGate suite = gate(PerformanceGate.Scenario.SUITE);
+        suite.writeBaseline(report(100, 30, 10));
+        Assertions.assertThat(suite.check(report(100, 30, 100), DISCARD)).isEmpty();
+
+        PerformanceGate load = gate(PerformanceGate.Scenario.LOAD);
+        load.writeBaseline(report(100, 30, 10));
+        Assertions.assertThat(load.check(report(100, 30, 100), DISCARD))
+                .hasSize(2)
+                .allMatch(regression -> regression.contains("throughput"));
+    }
+
+    private static PerformanceGate gate(PerformanceGate.Scenario scenario) throws IOException {
+        PerformanceGateSettings defaults = PerformanceGateSettings.fromSystemProperties(scenario);
+        PerformanceGateSettings settings = new PerformanceGateSettings(Files.createTempDirectory("baselines"), "test",
+                false, true, defaults.p95Tolerance(), defaults.throughputTolerance(), defaults.absoluteSlackMs(),
+                defaults.minSamples());
+        return new PerformanceGate(settings, scenario);
+    }
+
+    // two endpoints answering every call in latencyMs, read back through the report's own file format
+    private static LatencyReport report(long latencyMs, int callsPerEndpoint, double elapsedSeconds) throws IOException {
+        JSONArray endpoints = new JSONArray();
+        for (String method : List.of("GET", "POST")) {
+            Histogram histogram = new Histogram(3);
+            histogram.recordValueWithCount(latencyMs * 1_000, callsPerEndpoint);
+            ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+            int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+            endpoints.put(new JSONObject()
+                    .put("method", method)
+                    .put("path", "/booking")
+                    .put("histogram", Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length)))
+                    .put("clientErrors", 0)
+                    .put("errors", 0));
+        }
+        Path file = Files.createTempFile("latency-report", ".json");
+        Files.writeString(file, new JSONObject().put("elapsedSeconds", elapsedSeconds).put("endpoints", endpoints)
+                .toString(), StandardCharsets.UTF_8);
+        LatencyReport report = LatencyReport.read(file);
+        Files.delete(file);
+        return report;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.restBookerApi.tests;
+
+import com.example.restBookerApi.utis.metrics.LatencyMetrics;
+import com.example.restBookerApi.utis.metrics.LatencyReport;
+import com.example.restBookerApi.utis.metrics.PerformanceGate;
+import com.example.restBookerApi.utis.metrics.PerformanceGateSettings;
+import com.example.restBookerApi.utis.recording.ExchangeRecorder;
+import com.example.restBookerApi.utis.recording.RecordingMode;
+import com.example.restBookerApi.utis.sharding.ShardSettings;
+import org.assertj.core.api.Assertions;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+// runs in its own <test> after the API tests, a failure here leaves the suite listeners and the report intact
+public class PerformanceGateTest {
+
+    @Test
+    public void latencyWithinBaseline() {
+        PerformanceGateSettings settings = PerformanceGateSettings.fromSystemProperties(PerformanceGate.Scenario.SUITE);
+        PerformanceGate gate = new PerformanceGate(settings, PerformanceGate.Scenario.SUITE);
+        if (ShardSettings.fromSystemProperties().enabled()) {
+            // one shard only carries part of the load, the gate runs on the merged report instead
+            throw new SkipException("Performance gate deferred to the shard merge");
+        }
+        LatencyReport report = LatencyReport.of(LatencyMetrics.getInstance());
+        if (settings.updateBaseline()) {
+            gate.writeBaseline(report);
+            return;
+        }
+        if (!settings.enabled() || ExchangeRecorder.getInstance().getMode() == RecordingMode.REPLAY) {
+            throw new SkipException("Performance gate disabled");
+        }
+        if (!gate.hasBaseline()) {
+            throw new SkipException("No suite baseline for " + settings.environment() + " at " + gate.baselineFile());
+        }
+        List<String> regressions = gate.check(report, System.out);
+        Assertions.assertThat(regressions)
+                .as("Performance regressed against " + gate.baselineFile())
+                .isEmpty();
+    }
+}
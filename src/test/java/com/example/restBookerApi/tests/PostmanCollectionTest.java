@@ -0,0 +1,77 @@
+package com.example.restBookerApi.tests;
+
+import com.example.restBookerApi.postman.PostmanCollection;
+import com.example.restBookerApi.postman.PostmanRequest;
+import com.example.restBookerApi.postman.PostmanVariables;
+import com.example.restBookerApi.steps.ApiConfig;
+import com.example.restBookerApi.utis.authentication.ApiConstants;
+import org.assertj.core.api.Assertions;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+public class PostmanCollectionTest {
+    private static final Path COLLECTION = Path.of("Postman/Collection/Restful booker.postman_collection.json");
+    private static final Path ENVIRONMENT = Path.of("Postman/Environment/Restful booker.postman_environment.json");
+
+    @Test
+    public void importsRequestsWithTheirChainedVariables() {
+        PostmanCollection collection = PostmanCollection.load(COLLECTION, "");
+        Assertions.assertThat(collection.requests()).hasSize(26);
+
+        PostmanRequest createToken = request(collection, "Functional/Auth/Create Token");
+        Assertions.assertThat(createToken.method()).isEqualTo("POST");
+        Assertions.assertThat(createToken.path()).isEqualTo("/auth");
+        Assertions.assertThat(createToken.expectedStatus()).isEqualTo(200);
+        Assertions.assertThat(createToken.extractions()).isEqualTo(Map.of("token", "token"));
+
+        Assertions.assertThat(request(collection, "Functional/Booking/Create Booking").extractions())
+                .isEqualTo(Map.of("bookingID", "bookingid"));
+
+        PostmanRequest getBooking = request(collection, "Functional/Booking/Get Booking");
+        Assertions.assertThat(getBooking.path()).isEqualTo("/booking/");
+        Assertions.assertThat(getBooking.pathVariable()).isEqualTo("{{bookingID}}");
+
+        Assertions.assertThat(request(collection, "Functional/Booking/Get Booking IDs").query())
+                .isEqualTo("?firstname=Jon&lastname=Dough");
+    }
+
+    @Test
+    public void importsOnlyTheSelectedFolder() {
+        PostmanCollection booking = PostmanCollection.load(COLLECTION, "Functional/Booking");
+        Assertions.assertThat(booking.requests())
+                .hasSize(6)
+                .allMatch(request -> request.name().startsWith("Functional/Booking/"));
+
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> PostmanCollection.load(COLLECTION, "Functional/Missing"));
+    }
+
+    @Test
+    public void resolvesEnvironmentAndChainedVariables() {
+        PostmanVariables environment = PostmanVariables.fromEnvironment(ENVIRONMENT);
+        // the environment file only points at the suite's settings
+        Assertions.assertThat(environment.get("Base URL")).isEqualTo(ApiConfig.baseUrl());
+        Assertions.assertThat(environment.get("Valid Username")).isEqualTo(ApiConstants.VALID_USERNAME);
+        Assertions.assertThat(environment.resolve("/booking/{{bookingID}}")).isEqualTo("/booking/{{bookingID}}");
+
+        PostmanVariables user = environment.copy();
+        user.set("token", "abc123");
+        user.set("bookingID", "42");
+        user.set("bookingPath", "/booking/{{bookingID}}");
+        Assertions.assertThat(user.resolve("{{Base URL}}{{bookingPath}}?token={{ token }}"))
+                .isEqualTo(ApiConfig.baseUrl() + "/booking/42?token=abc123");
+        Assertions.assertThat(environment.get("token")).isNull();
+
+        user.set("loop", "{{loop}}x");
+        Assertions.assertThat(user.get("loop")).isEqualTo("{{loop}}" + "x".repeat(9));
+    }
+
+    private static PostmanRequest request(PostmanCollection collection, String name) {
+        return collection.requests().stream()
+                .filter(request -> request.name().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.restBookerApi.tests;
+
+import com.example.restBookerApi.utis.http.AdaptiveConcurrencyLimit;
+import com.example.restBookerApi.utis.http.TokenBucket;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Offset;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class RequestThrottleTest {
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final Offset<Double> PRECISION = Offset.offset(0.001);
+
+    @Test
+    public void tokenBucketLetsTheBurstThroughThenPaces() {
+        TokenBucket bucket = new TokenBucket(10, 5);
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertThat(bucket.reserve()).as("permit %d of the burst", i + 1).isZero();
+        }
+        // 100 ms per permit, less the time the reservations themselves took
+        long sixth = bucket.reserve();
+        Assertions.assertThat(sixth).isPositive().isLessThanOrEqualTo(100 * MILLIS);
+        Assertions.assertThat(bucket.reserve()).isGreaterThan(sixth).isLessThanOrEqualTo(200 * MILLIS);
+    }
+
+    @Test
+    public void tokenBucketRejectsNonPositiveSettings() {
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> new TokenBucket(0, 5));
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> new TokenBucket(10, 0));
+    }
+
+    @Test
+    public void limitGrowsAdditivelyAndShrinksOnRejections() throws InterruptedException {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 2, 100, 2.0);
+        call(limit, 200, 1);
+        Assertions.assertThat(limit.limit()).isCloseTo(10.1, PRECISION);
+
+        call(limit, 429, 1);
+        Assertions.assertThat(limit.limit()).isCloseTo(9.09, PRECISION);
+        Thread.sleep(5);
+        call(limit, 503, 1);
+        Assertions.assertThat(limit.limit()).isCloseTo(8.181, PRECISION);
+    }
+
+    @Test
+    public void limitShrinksOnHighLatency() throws InterruptedException {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 2, 100, 2.0);
+        call(limit, 200, 1);
+        call(limit, 200, 1);
+        double grown = limit.limit();
+
+        Thread.sleep(5);
+        call(limit, 200, 3);
+        Assertions.assertThat(limit.limit()).isCloseTo(grown * 0.9, PRECISION);
+    }
+
+    @Test
+    public void limitBacksOffOncePerRoundTripAndStopsAtTheMinimum() throws InterruptedException {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(3, 2, 100, 2.0);
+        // a 10 s round trip, so the rejections below all arrive within one
+        call(limit, 200, 10_000);
+        double grown = limit.limit();
+
+        call(limit, 429, 10_000);
+        call(limit, 503, 10_000);
+        call(limit, -1, 10_000);
+        Assertions.assertThat(limit.limit()).isCloseTo(grown * 0.9, PRECISION);
+        Assertions.assertThat(limit.stats()).contains("decreases=1");
+
+        AdaptiveConcurrencyLimit floor = new AdaptiveConcurrencyLimit(2, 2, 100, 2.0);
+        call(floor, 429, 1);
+        Assertions.assertThat(floor.limit()).isEqualTo(2.0);
+    }
+
+    @Test
+    public void abandonHandsTheSlotBackWithoutChangingTheLimit() throws Exception {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 100, 2.0);
+        Assertions.assertThat(limit.acquire()).isFalse();
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<Boolean> waiter = executor.submit(limit::acquire);
+            Assertions.assertThatExceptionOfType(TimeoutException.class)
+                    .isThrownBy(() -> waiter.get(100, TimeUnit.MILLISECONDS));
+
+            limit.abandon();
+            Assertions.assertThat(waiter.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+        Assertions.assertThat(limit.limit()).isEqualTo(1.0);
+        Assertions.assertThat(limit.stats()).contains("inFlight=1", "decreases=0");
+        limit.abandon();
+    }
+
+    private static void call(AdaptiveConcurrencyLimit limit, int statusCode, long latencyMillis)
+            throws InterruptedException {
+        limit.acquire();
+        limit.release(statusCode, latencyMillis * MILLIS);
+    }
+}
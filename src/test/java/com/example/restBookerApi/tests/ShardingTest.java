@@ -0,0 +1,67 @@
+package com.example.restBookerApi.tests;
+
+import com.example.restBookerApi.utis.metrics.LatencyReport;
+import com.example.restBookerApi.utis.sharding.ShardSettings;
+import org.HdrHistogram.Histogram;
+import org.assertj.core.api.Assertions;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+public class ShardingTest {
+
+    @Test
+    public void everyPartitionHasExactlyOneShard() {
+        int count = 3;
+        for (int partition = 0; partition < 100; partition++) {
+            int owners = 0;
+            for (int index = 0; index < count; index++) {
+                if (new ShardSettings(index, count, "").owns(partition)) {
+                    owners++;
+                }
+            }
+            Assertions.assertThat(owners).as("owners of partition %d", partition).isEqualTo(1);
+        }
+        Assertions.assertThat(new ShardSettings(1, count, "shard1-").name("John")).isEqualTo("shard1-John");
+    }
+
+    @Test
+    public void mergesShardLatencyReports() throws IOException {
+        Path directory = Files.createTempDirectory("latency-shards");
+        Path first = write(directory.resolve("shard-0.json"), 2.0, 1_000, 2_000, 3_000);
+        Path second = write(directory.resolve("shard-1.json"), 3.0, 4_000);
+
+        JSONObject merged = LatencyReport.merge(List.of(LatencyReport.read(first), LatencyReport.read(second))).toJson();
+
+        Assertions.assertThat(merged.getDouble("elapsedSeconds")).isEqualTo(3.0);
+        JSONObject endpoint = merged.getJSONArray("endpoints").getJSONObject(0);
+        Assertions.assertThat(endpoint.getLong("calls")).isEqualTo(4);
+        Assertions.assertThat(endpoint.getLong("errors")).isEqualTo(2);
+        Assertions.assertThat(endpoint.getDouble("maxMs")).isBetween(3.99, 4.01);
+    }
+
+    private static Path write(Path file, double elapsedSeconds, long... latenciesMicros) throws IOException {
+        Histogram histogram = new Histogram(1, 60_000_000L, 3);
+        Arrays.stream(latenciesMicros).forEach(histogram::recordValue);
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        JSONObject endpoint = new JSONObject()
+                .put("method", "GET")
+                .put("path", "/booking/{id}")
+                .put("clientErrors", 0)
+                .put("errors", 1)
+                .put("histogram", Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length)));
+        JSONObject report = new JSONObject()
+                .put("elapsedSeconds", elapsedSeconds)
+                .put("endpoints", new JSONArray().put(endpoint));
+        return Files.writeString(file, report.toString());
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.restBookerApi.tests;
+
+import com.example.restBookerApi.utis.validation.ResponseValidation;
+import com.example.restBookerApi.utis.validation.StreamedArray;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.assertj.core.api.Assertions;
+import org.testng.annotations.Test;
+
+public class StreamingArrayValidationTest {
+    private final ResponseValidation validation = new ResponseValidation();
+
+    @Test
+    public void streamsLargeBookingList() {
+        int bookings = 10_000;
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 1; i <= bookings; i++) {
+            body.append(i > 1 ? "," : "").append("{\"bookingid\":").append(i).append('}');
+        }
+        StreamedArray array = validation.validateResponseBodyArraySchema(response(body.append(']').toString()),
+                "getBooking");
+
+        Assertions.assertThat(array.count()).isEqualTo(bookings);
+        Assertions.assertThat(array.ids().size()).isEqualTo(bookings);
+        Assertions.assertThat(array.ids().get(bookings - 1)).isEqualTo(bookings);
+    }
+
+    @Test
+    public void reportsInvalidItemByIndex() {
+        StreamedArray array = validation.streamArray(response("[{\"bookingid\":1},{\"bookingid\":\"two\"}]"), "getBooking");
+
+        Assertions.assertThat(array.isValid()).isFalse();
+        Assertions.assertThat(array.count()).isEqualTo(2);
+        Assertions.assertThat(array.failures()).singleElement().asString().startsWith("item 1 ");
+    }
+
+    @Test
+    public void rejectsBodyThatIsNotAnArray() {
+        StreamedArray array = validation.streamArray(response("{\"bookingid\":1}"), "getBooking");
+
+        Assertions.assertThat(array.isArray()).isFalse();
+        Assertions.assertThatThrownBy(() -> validation.streamArray(response("[]"), "createBooking"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Response response(String body) {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType(ContentType.JSON)
+                .setBody(body)
+                .build();
+    }
+}
@@ -1,12 +1,19 @@
 package com.example.restBookerApi.tests;
 
+import com.example.restBookerApi.steps.ApiConfig;
 import com.example.restBookerApi.steps.ApiRequests;
+import com.example.restBookerApi.steps.AsyncApiConfig;
+import com.example.restBookerApi.utis.authentication.AuthMode;
 import com.example.restBookerApi.utis.authentication.AuthenticationRequest;
+import com.example.restBookerApi.utis.authentication.TokenCache;
+import com.example.restBookerApi.utis.fixtures.BookingLease;
+import com.example.restBookerApi.utis.fixtures.BookingPool;
 import com.example.restBookerApi.utis.requestbodies.BookingDates;
 import com.example.restBookerApi.utis.requestbodies.BookingRequest;
 import com.example.restBookerApi.utis.validation.ResponseValidation;
-import io.restassured.path.json.JsonPath;
+import com.example.restBookerApi.utis.validation.SchemaCache;
 import io.restassured.response.Response;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Parameters;
 import org.testng.annotations.Test;
@@ -15,8 +22,6 @@ import java.util.logging.Logger;
 
 public class Tests {
     private static final Logger LOGGER = Logger.getLogger("Restful-booker API Test");
-    private Response response;
-    private String bookingId;
     private ResponseValidation validation;
 
     @BeforeClass
@@ -24,15 +29,25 @@ public class Tests {
         validation = new ResponseValidation();
     }
 
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        LOGGER.info("Schema cache: " + SchemaCache.getInstance().stats());
+        LOGGER.info("Connection pool: " + ApiConfig.connectionPoolStats());
+        LOGGER.info("Request throttle: " + ApiConfig.throttleStats());
+        if (AsyncApiConfig.hedgingEnabled()) {
+            LOGGER.info("Hedged GETs: " + AsyncApiConfig.hedgingStats());
+        }
+        if (ApiConfig.authMode() == AuthMode.TOKEN) {
+            LOGGER.info("Token cache: " + TokenCache.getInstance().stats());
+        }
+    }
+
     @Parameters({"validUsername", "validPassword"})
     @Test(groups = "positive")
     public void generateAuthTokenValidCredentials(String validUsername, String validPassword) {
         AuthenticationRequest request = new AuthenticationRequest(validUsername, validPassword);
-        response = ApiRequests.getAuthenticationToken(request);
-        String authToken = response.jsonPath().getString("token");
-        validation.validateResponseHeaders(response);
-        validation.validateResponseStatusCode(response, 200);
-        validation.validateResponseBodySchema(response, "createToken");
+        Response response = ApiRequests.getAuthenticationToken(request);
+        validation.check(response).headers().statusCode(200).schema("createToken").verify();
     }
 
     @Parameters({
@@ -63,29 +78,23 @@ public class Tests {
                 .setAdditionalNeeds(createBookingAdditionalNeeds)
                 .build();
 
-        response = ApiRequests.createBooking(request);
-        JsonPath jsonPath = response.jsonPath();
-        this.bookingId = jsonPath.getString("bookingid");
-        validation.validateResponseHeaders(response);
-        validation.validateResponseStatusCode(response, 200);
-        validation.validateResponseBodySchema(response, "createBooking");
+        Response response = ApiRequests.createBooking(request);
+        validation.check(response).headers().statusCode(200).schema("createBooking").verify();
     }
 
     @Test(priority = 2, groups = "positive")
     public void getBookingById() {
-        response = ApiRequests.getBookingById(this.bookingId);
-        validation.validateResponseHeaders(response);
-        validation.validateResponseStatusCode(response, 200);
-        validation.validateResponseBodySchema(response, "getBookingById");
+        try (BookingLease lease = BookingPool.getInstance().lease()) {
+            Response response = ApiRequests.getBookingById(lease.getBookingId());
+            validation.check(response).headers().statusCode(200).schema("getBookingById").verify();
+        }
     }
 
     @Parameters({"createBookingFirstName", "createBookingLastName"})
     @Test(priority = 3, groups = "positive")
     public void getBooking(String createBookingFirstName, String createBookingLastName) {
-        response = ApiRequests.getBooking(createBookingFirstName, createBookingLastName);
-        validation.validateResponseHeaders(response);
-        validation.validateResponseStatusCode(response, 200);
-        validation.validateResponseBodySchema(response, "getBooking");
+        Response response = ApiRequests.getBookingStreamed(createBookingFirstName, createBookingLastName);
+        validation.check(response).headers().statusCode(200).schema("getBooking").verify();
     }
 
     @Parameters({
@@ -117,10 +126,11 @@ public class Tests {
                 .setAdditionalNeeds(updateBookingAdditionalNeeds)
                 .build();
 
-        response = ApiRequests.updateBooking(this.bookingId, request);
-        validation.validateResponseHeaders(response);
-        validation.validateResponseStatusCode(response, 200);
-        validation.validateResponseBodySchema(response, "updateBooking");
+        try (BookingLease lease = BookingPool.getInstance().lease()) {
+            Response response = ApiRequests.updateBooking(lease.getBookingId(), request);
+            lease.retire();
+            validation.check(response).headers().statusCode(200).schema("updateBooking").verify();
+        }
     }
 
     @Parameters({
@@ -135,18 +145,21 @@ public class Tests {
                 .setLastName(partialUpdateBookingLastName)
                 .build();
 
-        response = ApiRequests.partialUpdateBooking(this.bookingId, request);
-        String responseBody = response.getBody().asString();
-        validation.validateResponseHeaders(response);
-        validation.validateResponseStatusCode(response, 200);
-        validation.validateResponseBodySchema(response, "partialUpdateBooking");
+        try (BookingLease lease = BookingPool.getInstance().lease()) {
+            Response response = ApiRequests.partialUpdateBooking(lease.getBookingId(), request);
+            lease.retire();
+            validation.check(response).headers().statusCode(200).schema("partialUpdateBooking").verify();
+        }
     }
 
-    @Test(priority = 6, dependsOnMethods = "createBooking", groups = "positive")
+    @Test(priority = 6, groups = "positive")
     public void deleteBooking() {
-        response = ApiRequests.deleteBooking(this.bookingId);
-        validation.validateResponseHeaders(response);
-        validation.validateResponseStatusCode(response, 201);
+        try (BookingLease lease = BookingPool.getInstance().lease()) {
+            Response response = ApiRequests.deleteBooking(lease.getBookingId());
+            lease.markDeleted();
+            validation.validateResponseHeaders(response);
+            validation.validateResponseStatusCode(response, 201);
+        }
     }
 
     // Edge cases for generating authentication token
@@ -154,40 +167,32 @@ public class Tests {
     @Test(groups = "negative")
     public void generateAuthTokenInvalidUsername(String invalidUsername, String validPassword) {
         AuthenticationRequest request = new AuthenticationRequest(invalidUsername, validPassword);
-        response = ApiRequests.getAuthenticationToken(request);
-        validation.validateResponseHeaders(response);
-        validation.validateResponseStatusCode(response, 400);
-        validation.validateResponseErrorMessage(response);
+        Response response = ApiRequests.getAuthenticationToken(request);
+        validation.check(response).headers().statusCode(400).errorMessage().verify();
     }
 
     @Parameters({"validUsername", "invalidPassword"})
     @Test(groups = "negative")
     public void generateAuthTokenInvalidPassword(String validUsername, String invalidPassword) {
         AuthenticationRequest request = new AuthenticationRequest(validUsername, invalidPassword);
-        response = ApiRequests.getAuthenticationToken(request);
-        validation.validateResponseHeaders(response);
-        validation.validateResponseStatusCode(response, 400);
-        validation.validateResponseErrorMessage(response);
+        Response response = ApiRequests.getAuthenticationToken(request);
+        validation.check(response).headers().statusCode(400).errorMessage().verify();
     }
 
     @Parameters({"invalidUsernameIntDataType", "invalidPasswordIntDataType"})
     @Test(groups = "negative")
     public void generateAuthTokenInvalidCredentialDataType(String invalidUsernameIntDataType, String invalidPasswordIntDataType) {
         AuthenticationRequest request = new AuthenticationRequest(invalidUsernameIntDataType, invalidPasswordIntDataType);
-        response = ApiRequests.getAuthenticationToken(request);
-        validation.validateResponseHeaders(response);
-        validation.validateResponseStatusCode(response, 400);
-        validation.validateResponseErrorMessage(response);
+        Response response = ApiRequests.getAuthenticationToken(request);
+        validation.check(response).headers().statusCode(400).errorMessage().verify();
     }
 
     @Parameters({"emptyStringUserName", "emptyStringPassword"})
     @Test(groups = "negative")
     public void generateAuthTokenEmptyBody(String emptyStringUserName, String emptyStringPassword) {
         AuthenticationRequest request = new AuthenticationRequest(emptyStringUserName, emptyStringPassword);
-        response = ApiRequests.getAuthenticationToken(request);
-        validation.validateResponseHeaders(response);
-        validation.validateResponseStatusCode(response, 400);
-        validation.validateResponseErrorMessage(response);
+        Response response = ApiRequests.getAuthenticationToken(request);
+        validation.check(response).headers().statusCode(400).errorMessage().verify();
     }
 
     //Edge cases for creating a booking
@@ -195,7 +200,7 @@ public class Tests {
     public void createBookingEmptyBody() {
         BookingRequest request = new BookingRequest.Builder()
                 .build();
-        response = ApiRequests.createBooking(request);
+        Response response = ApiRequests.createBooking(request);
         validation.validateResponseStatusCode(response, 400);
     }
 
@@ -225,7 +230,7 @@ public class Tests {
                 .setAdditionalNeeds(createBookingAdditionalNeeds)
                 .build();
 
-        response = ApiRequests.createBooking(request);
+        Response response = ApiRequests.createBooking(request);
         validation.validateResponseStatusCode(response, 400);
     }
 
@@ -257,7 +262,7 @@ public class Tests {
                 .setAdditionalNeeds(createBookingAdditionalNeeds)
                 .build();
 
-        response = ApiRequests.createBooking(request);
+        Response response = ApiRequests.createBooking(request);
         validation.validateResponseStatusCode(response, 400);
     }
 
@@ -289,16 +294,18 @@ public class Tests {
                 .setAdditionalNeeds(createBookingAdditionalNeeds)
                 .build();
 
-        response = ApiRequests.createBooking(request);
-        validation.validateResponseStatusCode(response, 400);
-        validation.validateResponseDatePropertyFormat(response, "checkin");
-        validation.validateResponseDatePropertyFormat(response, "checkout");
+        Response response = ApiRequests.createBooking(request);
+        validation.check(response)
+                .statusCode(400)
+                .datePropertyFormat("checkin")
+                .datePropertyFormat("checkout")
+                .verify();
     }
 
     // Edge cases for getting bookings ID
     @Test(groups = "negative")
     public void getBookingNonexistentID() {
-        response = ApiRequests.getBookingById("");
+        Response response = ApiRequests.getBookingById("");
         validation.validateResponseStatusCode(response, 404);
     }
 
@@ -306,9 +313,8 @@ public class Tests {
     @Parameters({"createBookingFirstName", "createBookingInvalidLastName"})
     @Test(groups = "negative")
     public void getBookingIDWithWrongPathParam(String createBookingFirstName, String createBookingInvalidLastName) {
-        response = ApiRequests.getBooking(createBookingFirstName, createBookingInvalidLastName);
-        validation.validateResponseStatusCode(response, 200);
-        validation.validateResponseBodyIsEmptyArray(response);
+        Response response = ApiRequests.getBookingStreamed(createBookingFirstName, createBookingInvalidLastName);
+        validation.check(response).statusCode(200).emptyArray().verify();
     }
 
     // Edge cases for updating a booking
@@ -343,7 +349,7 @@ public class Tests {
                 .setAdditionalNeeds(updateBookingAdditionalNeeds)
                 .build();
 
-        response = ApiRequests.updateBooking("", request);
+        Response response = ApiRequests.updateBooking("", request);
         validation.validateResponseStatusCode(response, 404);
     }
 
@@ -376,8 +382,10 @@ public class Tests {
                 .setAdditionalNeeds(updateBookingAdditionalNeeds)
                 .build();
 
-        response = ApiRequests.updateBookingNoAuth("", request);
-        validation.validateResponseStatusCode(response, 403);
+        try (BookingLease lease = BookingPool.getInstance().lease()) {
+            Response response = ApiRequests.updateBookingNoAuth(lease.getBookingId(), request);
+            validation.validateResponseStatusCode(response, 403);
+        }
     }
 
     // Edge cases for partially updating a booking
@@ -394,7 +402,7 @@ public class Tests {
                 .setLastName(partialUpdateBookingLastName)
                 .build();
 
-        response = ApiRequests.partialUpdateBooking("", request);
+        Response response = ApiRequests.partialUpdateBooking("", request);
         validation.validateResponseStatusCode(response, 404);
     }
 
@@ -411,20 +419,24 @@ public class Tests {
                 .setLastName(partialUpdateBookingLastName)
                 .build();
 
-        response = ApiRequests.partialUpdateBookingNoAuth("", request);
-        validation.validateResponseStatusCode(response, 403);
+        try (BookingLease lease = BookingPool.getInstance().lease()) {
+            Response response = ApiRequests.partialUpdateBookingNoAuth(lease.getBookingId(), request);
+            validation.validateResponseStatusCode(response, 403);
+        }
     }
 
     // Edge cases for deleting a booking
     @Test(groups = "negative")
     public void deleteBookingNonExistingID() {
-        response = ApiRequests.deleteBooking("someNonExistingID");
+        Response response = ApiRequests.deleteBooking("someNonExistingID");
         validation.validateResponseStatusCode(response, 404);
     }
 
     @Test(groups = "negative")
     public void deleteBookingNoAuth() {
-        response = ApiRequests.deleteBookingNoAuth("someBookingID");
-        validation.validateResponseStatusCode(response, 403);
+        try (BookingLease lease = BookingPool.getInstance().lease()) {
+            Response response = ApiRequests.deleteBookingNoAuth(lease.getBookingId());
+            validation.validateResponseStatusCode(response, 403);
+        }
     }
 }
@@ -0,0 +1,34 @@
+package com.example.restBookerApi.tests;
+
+import com.example.restBookerApi.load.ThinkTime;
+import org.assertj.core.api.Assertions;
+import org.testng.annotations.Test;
+
+public class ThinkTimeTest {
+
+    @Test
+    public void parsesEveryModel() {
+        Assertions.assertThat(ThinkTime.parse("none").nextPauseMs()).isZero();
+        Assertions.assertThat(ThinkTime.parse("").nextPauseMs()).isZero();
+        Assertions.assertThat(ThinkTime.parse("constant:250").nextPauseMs()).isEqualTo(250);
+        Assertions.assertThat(ThinkTime.parse("uniform:5-5").nextPauseMs()).isEqualTo(5);
+        Assertions.assertThat(ThinkTime.parse("uniform:10-20").nextPauseMs()).isBetween(10L, 20L);
+        Assertions.assertThat(ThinkTime.parse("exponential:100").nextPauseMs()).isNotNegative();
+    }
+
+    @Test
+    public void rejectsMalformedSpecsNamingTheProperty() {
+        for (String spec : new String[]{"uniform:5", "uniform:5-", "uniform:-5-10", "uniform:a-b", "constant",
+                "constant:-1", "exponential:fast", "gaussian:10"}) {
+            Assertions.assertThatIllegalArgumentException()
+                    .as(spec)
+                    .isThrownBy(() -> ThinkTime.parse(spec))
+                    .withMessageContaining("restBooker.load.thinkTime")
+                    .withMessageContaining("uniform:<min>-<max>")
+                    .withMessageEndingWith(spec);
+        }
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> ThinkTime.parse("uniform:20-10"))
+                .withMessageContaining("min <= max");
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.restBookerApi.tests;
+
+import com.example.restBookerApi.utis.authentication.TokenCache;
+import org.assertj.core.api.Assertions;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TokenCacheTest {
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @Test
+    public void fetchesOnceUnderContention() throws Exception {
+        BlockingSupplier supplier = new BlockingSupplier();
+        TokenCache cache = new TokenCache(TTL, supplier::fetch);
+        int callers = 32;
+        CyclicBarrier barrier = new CyclicBarrier(callers);
+        List<CompletableFuture<String>> tokens = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+            for (int i = 0; i < callers; i++) {
+                tokens.add(CompletableFuture.supplyAsync(() -> {
+                    await(barrier);
+                    return cache.getTokenAsync("admin", "password123");
+                }, executor).thenCompose(token -> token));
+            }
+            Assertions.assertThat(supplier.started.await(5, TimeUnit.SECONDS)).isTrue();
+            supplier.release.countDown();
+            for (CompletableFuture<String> token : tokens) {
+                Assertions.assertThat(token.get(5, TimeUnit.SECONDS)).isEqualTo("token-1");
+            }
+        }
+        Assertions.assertThat(supplier.calls).hasValue(1);
+        Assertions.assertThat(cache.stats()).startsWith("fetches=1,");
+    }
+
+    @Test
+    public void refetchesOnlyOnceTheTokenExpired() {
+        AtomicInteger calls = new AtomicInteger();
+        TokenCache fresh = new TokenCache(TTL, (username, password) -> "token-" + calls.incrementAndGet());
+        Assertions.assertThat(fresh.getToken("admin", "password123")).isEqualTo("token-1");
+        Assertions.assertThat(fresh.getToken("admin", "password123")).isEqualTo("token-1");
+        Assertions.assertThat(fresh.getToken("other", "password123")).isEqualTo("token-2");
+
+        calls.set(0);
+        TokenCache expired = new TokenCache(Duration.ZERO, (username, password) -> "token-" + calls.incrementAndGet());
+        Assertions.assertThat(expired.getToken("admin", "password123")).isEqualTo("token-1");
+        Assertions.assertThat(expired.getToken("admin", "password123")).isEqualTo("token-2");
+    }
+
+    @Test
+    public void staleInvalidateKeepsTheRefresh() throws Exception {
+        BlockingSupplier supplier = new BlockingSupplier();
+        supplier.release.countDown();
+        TokenCache cache = new TokenCache(TTL, supplier::fetch);
+        Assertions.assertThat(cache.getToken("admin", "password123")).isEqualTo("token-1");
+        cache.invalidate("admin", "password123", "token-1");
+
+        // callers that got a 403 for the old token keep invalidating it while the new one is being fetched
+        supplier.block();
+        CompletableFuture<String> refresh = cache.getTokenAsync("admin", "password123");
+        Assertions.assertThat(supplier.started.await(5, TimeUnit.SECONDS)).isTrue();
+        cache.invalidate("admin", "password123", "token-1");
+        CompletableFuture<String> joined = cache.getTokenAsync("admin", "password123");
+        supplier.release.countDown();
+
+        Assertions.assertThat(refresh.get(5, TimeUnit.SECONDS)).isEqualTo("token-2");
+        Assertions.assertThat(joined.get(5, TimeUnit.SECONDS)).isEqualTo("token-2");
+        cache.invalidate("admin", "password123", "token-1");
+        Assertions.assertThat(cache.getToken("admin", "password123")).isEqualTo("token-2");
+        Assertions.assertThat(supplier.calls).hasValue(2);
+
+        cache.invalidate("admin", "password123", "token-2");
+        Assertions.assertThat(cache.getToken("admin", "password123")).isEqualTo("token-3");
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class BlockingSupplier {
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile CountDownLatch started = new CountDownLatch(1);
+        private volatile CountDownLatch release = new CountDownLatch(1);
+
+        private void block() {
+            started = new CountDownLatch(1);
+            release = new CountDownLatch(1);
+        }
+
+        private String fetch(String username, String password) {
+            CountDownLatch waitFor = release;
+            started.countDown();
+            try {
+                if (!waitFor.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Token fetch was never released");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return "token-" + calls.incrementAndGet();
+        }
+    }
+}
@@ -2,8 +2,22 @@ package com.example.restBookerApi.utis.authentication;
 
 public class ApiConstants {
     public static final String BASE_URL = System.getenv("REST_BOOKER_BASE_URL");
-    public static final String VALID_USERNAME = System.getenv("REST_BOOKER_USERNAME");
-    public static final String VALID_PASSWORD = System.getenv("REST_BOOKER_PASSWORD");
-}
+    public static final String VALID_USERNAME = credential("REST_BOOKER_USERNAME", "admin");
+    public static final String VALID_PASSWORD = credential("REST_BOOKER_PASSWORD", "password123");
 
+    public static boolean usesStub() {
+        return BASE_URL == null || BASE_URL.isBlank();
+    }
 
+    // the defaults are the in-process stub's credentials, a real deployment must provide its own
+    private static String credential(String variable, String stubDefault) {
+        String value = System.getenv(variable);
+        if (value != null && !value.isEmpty()) {
+            return value;
+        }
+        if (usesStub()) {
+            return stubDefault;
+        }
+        throw new IllegalStateException(variable + " must be set when REST_BOOKER_BASE_URL points at a deployment");
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.restBookerApi.utis.authentication;
+
+import java.util.Locale;
+
+public enum AuthMode {
+    BASIC,
+    TOKEN;
+
+    public static AuthMode fromSystemProperties() {
+        return valueOf(System.getProperty("restBooker.auth.mode", "basic").toUpperCase(Locale.ROOT));
+    }
+}
@@ -2,21 +2,29 @@ package com.example.restBookerApi.utis.authentication;
 
 import org.json.JSONObject;
 
-public class AuthenticationRequest {
-    private static String username;
-    private static String password;
-    public JSONObject requestBody;
+public final class AuthenticationRequest {
+    private final String username;
+    private final String password;
+    public final JSONObject requestBody;
 
     public AuthenticationRequest(final String username, final String password) {
         this.username = username;
         this.password = password;
-        createJSONMainBody();
+        this.requestBody = createJSONMainBody();
     }
 
-    private void createJSONMainBody() {
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    private JSONObject createJSONMainBody() {
         JSONObject data = new JSONObject();
         data.put("username", username);
         data.put("password", password);
-        this.requestBody = data;
+        return data;
     }
 }
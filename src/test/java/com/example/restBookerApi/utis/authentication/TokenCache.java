@@ -0,0 +1,108 @@
+package com.example.restBookerApi.utis.authentication;
+
+import com.example.restBookerApi.steps.ApiRequests;
+import io.restassured.response.Response;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+public final class TokenCache {
+    private static final TokenCache INSTANCE =
+            new TokenCache(Duration.ofSeconds(Long.getLong("restBooker.auth.tokenTtlSeconds", 600L)), TokenCache::requestToken);
+    // the /auth call blocks, so it runs here instead of on the thread of whoever found the token stale
+    private static final Executor FETCHER =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("restBooker-token-", 0).factory());
+    private final Map<Credentials, CompletableFuture<CachedToken>> tokens = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final BiFunction<String, String, String> tokenSupplier;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder joins = new LongAdder();
+    private final LongAdder fetches = new LongAdder();
+
+    public TokenCache(Duration ttl, BiFunction<String, String, String> tokenSupplier) {
+        this.ttl = ttl;
+        this.tokenSupplier = tokenSupplier;
+    }
+
+    public static TokenCache getInstance() {
+        return INSTANCE;
+    }
+
+    public String getToken(String username, String password) {
+        return getTokenAsync(username, password).join();
+    }
+
+    public CompletableFuture<String> getTokenAsync(String username, String password) {
+        Credentials credentials = new Credentials(username, password);
+        while (true) {
+            CompletableFuture<CachedToken> current = tokens.get(credentials);
+            if (current != null && !current.isDone()) {
+                joins.increment();
+                return current.thenApply(CachedToken::token);
+            }
+            if (current != null && isFresh(current)) {
+                hits.increment();
+                return current.thenApply(CachedToken::token);
+            }
+
+            CompletableFuture<CachedToken> refresh = new CompletableFuture<>();
+            boolean owner = current == null
+                    ? tokens.putIfAbsent(credentials, refresh) == null
+                    : tokens.replace(credentials, current, refresh);
+            if (owner) {
+                fetches.increment();
+                FETCHER.execute(() -> fetch(credentials, refresh));
+                return refresh.thenApply(CachedToken::token);
+            }
+        }
+    }
+
+    public void invalidate(String username, String password, String token) {
+        Credentials credentials = new Credentials(username, password);
+        CompletableFuture<CachedToken> current = tokens.get(credentials);
+        if (current != null && current.isDone() && !current.isCompletedExceptionally()
+                && current.join().token().equals(token)) {
+            tokens.remove(credentials, current);
+        }
+    }
+
+    public String stats() {
+        return String.format("fetches=%d, hits=%d, joinedInFlight=%d", fetches.sum(), hits.sum(), joins.sum());
+    }
+
+    private void fetch(Credentials credentials, CompletableFuture<CachedToken> refresh) {
+        try {
+            String token = tokenSupplier.apply(credentials.username(), credentials.password());
+            refresh.complete(new CachedToken(token, System.nanoTime() + ttl.toNanos()));
+        } catch (RuntimeException | Error e) {
+            // completing the future is what wakes every waiting caller, so nothing may escape without doing it
+            tokens.remove(credentials, refresh);
+            refresh.completeExceptionally(e);
+        }
+    }
+
+    private static boolean isFresh(CompletableFuture<CachedToken> token) {
+        return !token.isCompletedExceptionally() && token.join().expiresAtNanos() - System.nanoTime() > 0;
+    }
+
+    private static String requestToken(String username, String password) {
+        Response response = ApiRequests.getAuthenticationToken(new AuthenticationRequest(username, password));
+        String token = response.statusCode() == 200 ? response.jsonPath().getString("token") : null;
+        if (token == null) {
+            throw new IllegalStateException("Could not create an authentication token, status " + response.statusCode());
+        }
+        return token;
+    }
+
+    private record Credentials(String username, String password) {
+    }
+
+    private record CachedToken(String token, long expiresAtNanos) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.restBookerApi.utis.fixtures;
+
+import com.example.restBookerApi.steps.ApiRequests;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class BookingCleaner {
+    private static final Logger LOGGER = Logger.getLogger("Restful-booker cleanup");
+    private final CleanupSettings settings;
+    private final LongAdder deleted = new LongAdder();
+    private final LongAdder alreadyGone = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Set<String> remaining = ConcurrentHashMap.newKeySet();
+    private final AtomicLong nextStartNanos = new AtomicLong();
+
+    public BookingCleaner(CleanupSettings settings) {
+        this.settings = settings;
+    }
+
+    // retries the bookings a previous cleanup left behind, e.g. after a timeout against a slow deployment
+    public static void main(String[] args) {
+        CleanupSettings settings = CleanupSettings.fromSystemProperties();
+        Path file = args.length > 0 ? Path.of(args[0]) : settings.remainingFile();
+        List<String> bookingIds = readRemaining(file);
+        CleanupResult result = new BookingCleaner(settings).deleteAll(bookingIds);
+        writeRemaining(file, result);
+        System.out.println("Cleaned up " + bookingIds.size() + " left over bookings: " + result);
+        System.exit(result.remaining().isEmpty() ? 0 : 1);
+    }
+
+    public static CleanupResult cleanUpRegistered() {
+        CleanupSettings settings = CleanupSettings.fromSystemProperties();
+        CleanupResult result = new BookingCleaner(settings).deleteAll(CreatedBookingRegistry.getInstance().drain());
+        writeRemaining(settings.remainingFile(), result);
+        return result;
+    }
+
+    // the file always reflects the latest cleanup, so a clean run removes an older run's leftovers list
+    static void writeRemaining(Path file, CleanupResult result) {
+        try {
+            if (result.remaining().isEmpty()) {
+                Files.deleteIfExists(file);
+                return;
+            }
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, result.remaining(), StandardCharsets.UTF_8);
+            LOGGER.warning(() -> result.remaining().size() + " bookings were not deleted, retry with BookingCleaner "
+                    + file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<String> readRemaining(Path file) {
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        try {
+            return Files.readAllLines(file, StandardCharsets.UTF_8).stream().filter(line -> !line.isBlank()).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static boolean isGone(int statusCode) {
+        // Restful-booker answers 405 for deleting a booking that no longer exists
+        return statusCode == 201 || statusCode == 404 || statusCode == 405;
+    }
+
+    public CleanupResult deleteAll(List<String> bookingIds) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(settings.timeoutSeconds());
+        long intervalNanos = settings.ratePerSecond() > 0 ? (long) (1_000_000_000L / settings.ratePerSecond()) : 0;
+        nextStartNanos.set(start);
+        remaining.addAll(bookingIds);
+        Semaphore permits = new Semaphore(settings.parallelism());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String bookingId : bookingIds) {
+                executor.submit(() -> {
+                    try {
+                        long startAt = nextStartNanos.getAndAdd(intervalNanos);
+                        if (startAt > deadline || !permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                            return;
+                        }
+                        try {
+                            pauseUntil(startAt);
+                            delete(bookingId);
+                        } finally {
+                            permits.release();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+        }
+
+        long skipped = bookingIds.size() - deleted.sum() - alreadyGone.sum() - failed.sum();
+        return new CleanupResult(deleted.sum(), alreadyGone.sum(), failed.sum(), skipped,
+                Duration.ofNanos(System.nanoTime() - start), List.copyOf(remaining));
+    }
+
+    private void delete(String bookingId) {
+        try {
+            int statusCode = ApiRequests.deleteBooking(bookingId).statusCode();
+            if (statusCode == 201) {
+                deleted.increment();
+                remaining.remove(bookingId);
+            } else if (isGone(statusCode)) {
+                alreadyGone.increment();
+                remaining.remove(bookingId);
+            } else {
+                failed.increment();
+            }
+        } catch (Exception e) {
+            failed.increment();
+            LOGGER.log(Level.FINE, "Could not delete booking " + bookingId, e);
+        }
+    }
+
+    private static void pauseUntil(long deadlineNanos) throws InterruptedException {
+        long remaining = deadlineNanos - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+}
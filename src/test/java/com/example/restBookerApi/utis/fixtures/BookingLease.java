@@ -0,0 +1,38 @@
+package com.example.restBookerApi.utis.fixtures;
+
+public final class BookingLease implements AutoCloseable {
+    private final BookingPool pool;
+    private final String bookingId;
+    private boolean returned;
+
+    BookingLease(BookingPool pool, String bookingId) {
+        this.pool = pool;
+        this.bookingId = bookingId;
+    }
+
+    public String getBookingId() {
+        return bookingId;
+    }
+
+    public void retire() {
+        if (!returned) {
+            returned = true;
+            pool.retire(bookingId);
+        }
+    }
+
+    public void markDeleted() {
+        if (!returned) {
+            returned = true;
+            pool.forget(bookingId);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!returned) {
+            returned = true;
+            pool.release(bookingId);
+        }
+    }
+}
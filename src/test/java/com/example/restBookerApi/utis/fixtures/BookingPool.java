@@ -0,0 +1,157 @@
+package com.example.restBookerApi.utis.fixtures;
+
+import com.example.restBookerApi.steps.ApiRequests;
+import com.example.restBookerApi.steps.AsyncApiRequests;
+import com.example.restBookerApi.utis.requestbodies.BookingDates;
+import com.example.restBookerApi.utis.requestbodies.BookingRequest;
+import com.example.restBookerApi.utis.sharding.ShardSettings;
+import com.example.restBookerApi.utis.validation.ValidatedResponse;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public final class BookingPool {
+    private static final Logger LOGGER = Logger.getLogger("Restful-booker booking pool");
+    private static final BookingPool INSTANCE = new BookingPool(BookingPoolSettings.fromSystemProperties());
+    private static final ShardSettings SHARD = ShardSettings.fromSystemProperties();
+    private static final BookingRequest FIXTURE = new BookingRequest.Builder()
+            .setFirstName(SHARD.name("John"))
+            .setLastName(SHARD.name("Dough"))
+            .setTotalPrice(111)
+            .setDepositPaid(true)
+            .setBookingDates(new BookingDates("2018-01-01", "2019-01-01"))
+            .setAdditionalNeeds("Breakfast")
+            .build();
+    private final BookingPoolSettings settings;
+    private final BlockingDeque<String> available = new LinkedBlockingDeque<>();
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private final ExecutorService refiller = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "restBooker-booking-pool-refill");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final LongAdder created = new LongAdder();
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder inlineCreates = new LongAdder();
+    private final LongAdder released = new LongAdder();
+    private final LongAdder retired = new LongAdder();
+    private final LongAdder refills = new LongAdder();
+
+    BookingPool(BookingPoolSettings settings) {
+        this.settings = settings;
+    }
+
+    public static BookingPool getInstance() {
+        return INSTANCE;
+    }
+
+    public void prefill() {
+        fill(settings.size() - available.size());
+    }
+
+    public BookingLease lease() {
+        leases.increment();
+        String bookingId = available.pollFirst();
+        refillIfLow();
+        if (bookingId == null) {
+            // an empty pool should never stall a test, create the booking on the caller's thread instead
+            inlineCreates.increment();
+            bookingId = createInline();
+        }
+        return new BookingLease(this, bookingId);
+    }
+
+    public void clear() {
+        available.clear();
+    }
+
+    public int available() {
+        return available.size();
+    }
+
+    public String stats() {
+        return String.format("size=%d, available=%d, created=%d, leases=%d, inlineCreates=%d, released=%d, "
+                        + "retired=%d, refills=%d", settings.size(), available.size(), created.sum(), leases.sum(),
+                inlineCreates.sum(), released.sum(), retired.sum(), refills.sum());
+    }
+
+    void release(String bookingId) {
+        released.increment();
+        available.addLast(bookingId);
+    }
+
+    void retire(String bookingId) {
+        retired.increment();
+        AsyncApiRequests.deleteBooking(bookingId).exceptionally(error -> null);
+        refillIfLow();
+    }
+
+    void forget(String bookingId) {
+        retired.increment();
+        refillIfLow();
+    }
+
+    private void refillIfLow() {
+        if (available.size() < settings.lowWaterMark() && refilling.compareAndSet(false, true)) {
+            refiller.execute(() -> {
+                try {
+                    refills.increment();
+                    fill(settings.size() - available.size());
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.WARNING, "Booking pool refill failed", e);
+                } finally {
+                    refilling.set(false);
+                }
+            });
+        }
+    }
+
+    private void fill(int count) {
+        for (int offset = 0; offset < count; offset += settings.batchSize()) {
+            int batch = Math.min(settings.batchSize(), count - offset);
+            List<CompletableFuture<Response>> creates = new ArrayList<>(batch);
+            for (int i = 0; i < batch; i++) {
+                creates.add(AsyncApiRequests.createBooking(FIXTURE));
+            }
+            for (CompletableFuture<Response> create : creates) {
+                try {
+                    add(create.join());
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.FINE, "Could not create a pooled booking", e);
+                }
+            }
+        }
+    }
+
+    private String createInline() {
+        Response response = ApiRequests.createBooking(FIXTURE);
+        String bookingId = bookingId(response);
+        if (bookingId == null) {
+            throw new IllegalStateException("Could not create a booking, status " + response.statusCode());
+        }
+        created.increment();
+        return bookingId;
+    }
+
+    private void add(Response response) {
+        String bookingId = bookingId(response);
+        if (bookingId != null) {
+            created.increment();
+            available.addLast(bookingId);
+        }
+    }
+
+    private static String bookingId(Response response) {
+        return response.statusCode() == 200 ? ValidatedResponse.of(response).getString("bookingid") : null;
+    }
+}
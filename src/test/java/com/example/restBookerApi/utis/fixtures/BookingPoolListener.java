@@ -0,0 +1,25 @@
+package com.example.restBookerApi.utis.fixtures;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.util.logging.Logger;
+
+public class BookingPoolListener implements ISuiteListener {
+    private static final Logger LOGGER = Logger.getLogger("Restful-booker booking pool");
+
+    @Override
+    public void onStart(ISuite suite) {
+        long start = System.nanoTime();
+        BookingPool.getInstance().prefill();
+        LOGGER.info(() -> String.format("Booking pool prefilled with %d bookings in %.1f ms",
+                BookingPool.getInstance().available(), (System.nanoTime() - start) / 1_000_000.0));
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        // idle bookings are deleted with everything else by CleanupListener
+        BookingPool.getInstance().clear();
+        LOGGER.info("Booking pool: " + BookingPool.getInstance().stats());
+    }
+}
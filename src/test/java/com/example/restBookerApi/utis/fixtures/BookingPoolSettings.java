@@ -0,0 +1,14 @@
+package com.example.restBookerApi.utis.fixtures;
+
+public record BookingPoolSettings(int size,
+                                  int lowWaterMark,
+                                  int batchSize) {
+
+    public static BookingPoolSettings fromSystemProperties() {
+        int size = Integer.getInteger("restBooker.pool.size", 8);
+        return new BookingPoolSettings(
+                size,
+                Integer.getInteger("restBooker.pool.lowWaterMark", Math.max(1, size / 4)),
+                Integer.getInteger("restBooker.pool.batchSize", 8));
+    }
+}
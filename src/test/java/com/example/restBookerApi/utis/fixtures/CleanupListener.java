@@ -0,0 +1,23 @@
+package com.example.restBookerApi.utis.fixtures;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.util.logging.Logger;
+
+public class CleanupListener implements ISuiteListener {
+    private static final Logger LOGGER = Logger.getLogger("Restful-booker cleanup");
+
+    @Override
+    public void onStart(ISuite suite) {
+        CreatedBookingRegistry.getInstance().startTracking();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        CreatedBookingRegistry.getInstance().stopTracking();
+        int registered = CreatedBookingRegistry.getInstance().size();
+        CleanupResult result = BookingCleaner.cleanUpRegistered();
+        LOGGER.info(() -> "Cleaned up " + registered + " created bookings: " + result);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.restBookerApi.utis.fixtures;
+
+import java.time.Duration;
+import java.util.List;
+
+// remaining holds the failed and skipped ids, so they can be retried
+public record CleanupResult(long deleted, long alreadyGone, long failed, long skipped, Duration elapsed,
+                            List<String> remaining) {
+
+    @Override
+    public String toString() {
+        return String.format("deleted=%d, alreadyGone=%d, failed=%d, skipped=%d in %.1f ms",
+                deleted, alreadyGone, failed, skipped, elapsed.toNanos() / 1_000_000.0);
+    }
+}
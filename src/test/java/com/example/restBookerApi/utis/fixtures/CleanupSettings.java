@@ -0,0 +1,19 @@
+package com.example.restBookerApi.utis.fixtures;
+
+import java.nio.file.Path;
+
+public record CleanupSettings(int parallelism,
+                              double ratePerSecond,
+                              long timeoutSeconds,
+                              int maxTracked,
+                              Path remainingFile) {
+
+    public static CleanupSettings fromSystemProperties() {
+        return new CleanupSettings(
+                Integer.getInteger("restBooker.cleanup.parallelism", 8),
+                Double.parseDouble(System.getProperty("restBooker.cleanup.ratePerSecond", "50")),
+                Long.getLong("restBooker.cleanup.timeoutSeconds", 120L),
+                Integer.getInteger("restBooker.cleanup.maxTracked", 10_000),
+                Path.of(System.getProperty("restBooker.cleanup.remainingFile", "target/cleanup-remaining.txt")));
+    }
+}
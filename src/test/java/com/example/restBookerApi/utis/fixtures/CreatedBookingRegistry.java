@@ -0,0 +1,71 @@
+package com.example.restBookerApi.utis.fixtures;
+
+import com.example.restBookerApi.utis.validation.ValidatedResponse;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+// only tracks while a suite with CleanupListener runs, load scenarios create far more than a cleanup could delete
+public final class CreatedBookingRegistry {
+    private static final Logger LOGGER = Logger.getLogger("Restful-booker cleanup");
+    private static final CreatedBookingRegistry INSTANCE =
+            new CreatedBookingRegistry(CleanupSettings.fromSystemProperties().maxTracked());
+    private final Set<String> bookingIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean overflowLogged = new AtomicBoolean();
+    private final int maxTracked;
+    private volatile boolean tracking;
+
+    private CreatedBookingRegistry(int maxTracked) {
+        this.maxTracked = maxTracked;
+    }
+
+    public static CreatedBookingRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    public void startTracking() {
+        tracking = true;
+    }
+
+    public void stopTracking() {
+        tracking = false;
+    }
+
+    public void registerCreated(Response response) {
+        if (!tracking || response.statusCode() != 200) {
+            return;
+        }
+        String bookingId = ValidatedResponse.scanString(response, "bookingid");
+        if (bookingId == null) {
+            return;
+        }
+        if (bookingIds.size() >= maxTracked) {
+            if (overflowLogged.compareAndSet(false, true)) {
+                LOGGER.warning(() -> "More than " + maxTracked + " created bookings, further ones are not cleaned up");
+            }
+            return;
+        }
+        bookingIds.add(bookingId);
+    }
+
+    public void registerDeleted(String bookingId, Response response) {
+        if (BookingCleaner.isGone(response.statusCode())) {
+            bookingIds.remove(bookingId);
+        }
+    }
+
+    public List<String> drain() {
+        List<String> drained = new ArrayList<>(bookingIds);
+        drained.forEach(bookingIds::remove);
+        return drained;
+    }
+
+    public int size() {
+        return bookingIds.size();
+    }
+}
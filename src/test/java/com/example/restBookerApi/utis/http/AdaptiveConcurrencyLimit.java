@@ -0,0 +1,110 @@
+package com.example.restBookerApi.utis.http;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public final class AdaptiveConcurrencyLimit {
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double LATENCY_RISE_SMOOTHING = 0.01;
+    private static final double LATENCY_FALL_SMOOTHING = 0.5;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private double limit;
+    private int inFlight;
+    private double smoothedLatencyNanos;
+    private long lastDecreaseNanos;
+    private long decreases;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double latencyTolerance) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+    }
+
+    // returns whether the caller had to wait for a slot
+    public boolean acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            boolean waited = false;
+            while (inFlight >= (int) limit) {
+                waited = true;
+                available.await();
+            }
+            inFlight++;
+            return waited;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(int statusCode, long latencyNanos) {
+        lock.lock();
+        try {
+            inFlight--;
+            int slots = (int) limit;
+            long now = System.nanoTime();
+            boolean overloaded = statusCode < 0 || statusCode == 429 || statusCode == 503
+                    || (smoothedLatencyNanos > 0 && latencyNanos > smoothedLatencyNanos * latencyTolerance);
+            if (overloaded) {
+                // back off at most once per round trip, a burst of slow responses is one congestion signal
+                if (now - lastDecreaseNanos > smoothedLatencyNanos) {
+                    limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                    lastDecreaseNanos = now;
+                    decreases++;
+                }
+            } else {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            // the baseline follows faster responses quickly and slower ones slowly, so a warm-up outlier or
+            // a gradual slowdown does not hide congestion
+            if (smoothedLatencyNanos == 0) {
+                smoothedLatencyNanos = latencyNanos;
+            } else {
+                double smoothing = latencyNanos < smoothedLatencyNanos ? LATENCY_FALL_SMOOTHING : LATENCY_RISE_SMOOTHING;
+                smoothedLatencyNanos += smoothing * (latencyNanos - smoothedLatencyNanos);
+            }
+            // one slot was handed back, a grown limit may have opened another one
+            if ((int) limit > slots) {
+                available.signalAll();
+            } else {
+                available.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // a cancelled call says nothing about the server's load, it only hands its slot back
+    public void abandon() {
+        lock.lock();
+        try {
+            inFlight--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double limit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String stats() {
+        lock.lock();
+        try {
+            return String.format("limit=%.1f, inFlight=%d, decreases=%d, smoothedLatency=%.2f ms",
+                    limit, inFlight, decreases, smoothedLatencyNanos / 1_000_000.0);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
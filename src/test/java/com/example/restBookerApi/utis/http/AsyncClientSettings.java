@@ -0,0 +1,17 @@
+package com.example.restBookerApi.utis.http;
+
+public record AsyncClientSettings(int threads,
+                                  int maxInFlight,
+                                  boolean http2,
+                                  int connectTimeoutMs,
+                                  int requestTimeoutMs) {
+
+    public static AsyncClientSettings fromSystemProperties() {
+        return new AsyncClientSettings(
+                Integer.getInteger("restBooker.async.threads", 4),
+                Integer.getInteger("restBooker.async.maxInFlight", 1_024),
+                Boolean.parseBoolean(System.getProperty("restBooker.async.http2", "true")),
+                Integer.getInteger("restBooker.http.connectTimeoutMs", 5_000),
+                Integer.getInteger("restBooker.http.socketTimeoutMs", 30_000));
+    }
+}
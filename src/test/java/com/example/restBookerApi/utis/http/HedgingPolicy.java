@@ -0,0 +1,94 @@
+package com.example.restBookerApi.utis.http;
+
+import com.example.restBookerApi.utis.metrics.EndpointMetrics;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class HedgingPolicy {
+    public static final long NO_HEDGE = -1;
+    private static final long CREDITS_PER_HEDGE = 1_000;
+    private static final long THRESHOLD_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private final HedgingSettings settings;
+    private final long creditsPerRequest;
+    private final long maxCredits;
+    private final AtomicLong credits = new AtomicLong();
+    private final Map<EndpointMetrics, Threshold> thresholds = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> attemptLatency = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder overBudget = new LongAdder();
+
+    public HedgingPolicy(HedgingSettings settings) {
+        this.settings = settings;
+        this.creditsPerRequest = Math.round(settings.budgetPercent() / 100 * CREDITS_PER_HEDGE);
+        this.maxCredits = settings.maxBurst() * CREDITS_PER_HEDGE;
+    }
+
+    public boolean isEnabled() {
+        return settings.enabled();
+    }
+
+    // every request earns a fraction of a hedge, so hedges never exceed budgetPercent of the requests (plus a burst)
+    public long hedgeDelayNanos(EndpointMetrics endpoint) {
+        requests.increment();
+        credits.accumulateAndGet(creditsPerRequest, (current, deposit) -> Math.min(maxCredits, current + deposit));
+        if (settings.delayMs() > 0) {
+            return TimeUnit.MILLISECONDS.toNanos(settings.delayMs());
+        }
+        long now = System.nanoTime();
+        Threshold threshold = thresholds.get(endpoint);
+        if (threshold == null || now - threshold.computedAtNanos() > THRESHOLD_REFRESH_NANOS) {
+            threshold = new Threshold(percentileDelayNanos(endpoint), now);
+            thresholds.put(endpoint, threshold);
+        }
+        return threshold.delayNanos();
+    }
+
+    public boolean tryAcquireHedge() {
+        while (true) {
+            long current = credits.get();
+            if (current < CREDITS_PER_HEDGE) {
+                overBudget.increment();
+                return false;
+            }
+            if (credits.compareAndSet(current, current - CREDITS_PER_HEDGE)) {
+                hedges.increment();
+                return true;
+            }
+        }
+    }
+
+    // the endpoint metrics hold what the caller waited, the delay comes from how long a single attempt takes
+    public void recordAttempt(EndpointMetrics endpoint, long latencyNanos) {
+        attemptLatency.computeIfAbsent(endpoint.getName(), key -> new ConcurrentHistogram(3))
+                .recordValue(Math.max(TimeUnit.NANOSECONDS.toMicros(latencyNanos), 1));
+    }
+
+    public void hedgeWon() {
+        hedgeWins.increment();
+    }
+
+    public String stats() {
+        return String.format("requests=%d, hedges=%d, hedgeWins=%d, overBudget=%d", requests.sum(), hedges.sum(),
+                hedgeWins.sum(), overBudget.sum());
+    }
+
+    private long percentileDelayNanos(EndpointMetrics endpoint) {
+        Histogram histogram = attemptLatency.get(endpoint.getName());
+        if (histogram == null || histogram.getTotalCount() < settings.minSamples()) {
+            return NO_HEDGE;
+        }
+        long percentileNanos = TimeUnit.MICROSECONDS.toNanos(histogram.getValueAtPercentile(settings.percentile()));
+        return Math.max(TimeUnit.MILLISECONDS.toNanos(settings.minDelayMs()), percentileNanos);
+    }
+
+    private record Threshold(long delayNanos, long computedAtNanos) {
+    }
+}
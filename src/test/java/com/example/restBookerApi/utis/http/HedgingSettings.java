@@ -0,0 +1,21 @@
+package com.example.restBookerApi.utis.http;
+
+public record HedgingSettings(boolean enabled,
+                              long delayMs,
+                              double percentile,
+                              long minDelayMs,
+                              int minSamples,
+                              double budgetPercent,
+                              int maxBurst) {
+
+    public static HedgingSettings fromSystemProperties() {
+        return new HedgingSettings(
+                Boolean.getBoolean("restBooker.hedge.enabled"),
+                Long.getLong("restBooker.hedge.delayMs", 0),
+                Double.parseDouble(System.getProperty("restBooker.hedge.percentile", "95")),
+                Long.getLong("restBooker.hedge.minDelayMs", 5),
+                Integer.getInteger("restBooker.hedge.minSamples", 20),
+                Double.parseDouble(System.getProperty("restBooker.hedge.budgetPercent", "10")),
+                Integer.getInteger("restBooker.hedge.maxBurst", 10));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.restBookerApi.utis.http;
+
+public record HttpClientSettings(int maxTotalConnections,
+                                 int maxConnectionsPerRoute,
+                                 int connectTimeoutMs,
+                                 int socketTimeoutMs,
+                                 int connectionRequestTimeoutMs,
+                                 long keepAliveMs,
+                                 long idleEvictionMs,
+                                 long evictionIntervalMs) {
+
+    public static HttpClientSettings fromSystemProperties() {
+        return new HttpClientSettings(
+                Integer.getInteger("restBooker.http.maxTotal", 200),
+                Integer.getInteger("restBooker.http.maxPerRoute", 100),
+                Integer.getInteger("restBooker.http.connectTimeoutMs", 5_000),
+                Integer.getInteger("restBooker.http.socketTimeoutMs", 30_000),
+                Integer.getInteger("restBooker.http.connectionRequestTimeoutMs", 10_000),
+                Long.getLong("restBooker.http.keepAliveMs", 30_000L),
+                Long.getLong("restBooker.http.idleEvictionMs", 30_000L),
+                Long.getLong("restBooker.http.evictionIntervalMs", 5_000L));
+    }
+}
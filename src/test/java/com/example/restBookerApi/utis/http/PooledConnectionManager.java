@@ -0,0 +1,111 @@
+package com.example.restBookerApi.utis.http;
+
+import com.example.restBookerApi.utis.jfr.ApiCallTiming;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+@SuppressWarnings("deprecation")
+public final class PooledConnectionManager extends PoolingClientConnectionManager {
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder leaseTimeouts = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    public PooledConnectionManager(HttpClientSettings settings) {
+        super(SchemeRegistryFactory.createDefault());
+        setMaxTotal(settings.maxTotalConnections());
+        setDefaultMaxPerRoute(settings.maxConnectionsPerRoute());
+    }
+
+    @Override
+    public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+        ClientConnectionRequest request = super.requestConnection(route, state);
+        return new ClientConnectionRequest() {
+            @Override
+            public ManagedClientConnection getConnection(long timeout, TimeUnit unit)
+                    throws InterruptedException, ConnectionPoolTimeoutException {
+                long start = System.nanoTime();
+                try {
+                    ManagedClientConnection connection = request.getConnection(timeout, unit);
+                    leases.increment();
+                    return connection;
+                } catch (ConnectionPoolTimeoutException e) {
+                    leaseTimeouts.increment();
+                    throw e;
+                } finally {
+                    long waited = System.nanoTime() - start;
+                    totalWaitNanos.add(waited);
+                    maxWaitNanos.accumulate(waited);
+                    ApiCallTiming timing = ApiCallTiming.current();
+                    if (timing != null) {
+                        timing.addPoolWait(waited);
+                    }
+                }
+            }
+
+            @Override
+            public void abortRequest() {
+                request.abortRequest();
+            }
+        };
+    }
+
+    // called from the super constructor, so the wrapper must not touch fields of this class
+    @Override
+    protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+        ClientConnectionOperator operator = super.createConnectionOperator(schemeRegistry);
+        return new ClientConnectionOperator() {
+            @Override
+            public OperatedClientConnection createConnection() {
+                return operator.createConnection();
+            }
+
+            @Override
+            public void openConnection(OperatedClientConnection connection, HttpHost target, InetAddress local,
+                                       HttpContext context, HttpParams params) throws IOException {
+                ApiCallTiming timing = ApiCallTiming.current();
+                long start = System.nanoTime();
+                try {
+                    operator.openConnection(connection, target, local, context, params);
+                } finally {
+                    if (timing != null) {
+                        timing.addConnect(System.nanoTime() - start);
+                    }
+                }
+            }
+
+            @Override
+            public void updateSecureConnection(OperatedClientConnection connection, HttpHost target,
+                                               HttpContext context, HttpParams params) throws IOException {
+                operator.updateSecureConnection(connection, target, context, params);
+            }
+        };
+    }
+
+    public String stats() {
+        PoolStats pool = getTotalStats();
+        long leaseCount = leases.sum();
+        double averageWaitMs = leaseCount == 0 ? 0 : totalWaitNanos.sum() / (double) leaseCount / 1_000_000.0;
+        return String.format("leased=%d, pending=%d, available=%d, max=%d, leases=%d, leaseTimeouts=%d, "
+                        + "avgLeaseWait=%.3f ms, maxLeaseWait=%.3f ms",
+                pool.getLeased(), pool.getPending(), pool.getAvailable(), pool.getMax(),
+                leaseCount, leaseTimeouts.sum(), averageWaitMs, maxWaitNanos.get() / 1_000_000.0);
+    }
+}
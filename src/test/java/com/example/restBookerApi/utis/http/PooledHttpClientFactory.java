@@ -0,0 +1,96 @@
+package com.example.restBookerApi.utis.http;
+
+import com.example.restBookerApi.utis.jfr.ApiCallTiming;
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.HeaderElement;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HeaderElementIterator;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.params.ConnManagerParams;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HTTP;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@SuppressWarnings("deprecation")
+public class PooledHttpClientFactory implements HttpClientConfig.HttpClientFactory {
+    private final HttpClientSettings settings;
+    private final PooledConnectionManager connectionManager;
+
+    public PooledHttpClientFactory(HttpClientSettings settings) {
+        this.settings = settings;
+        this.connectionManager = new PooledConnectionManager(settings);
+        startIdleConnectionEviction();
+    }
+
+    @Override
+    public HttpClient createHttpClient() {
+        HttpParams params = new BasicHttpParams();
+        HttpConnectionParams.setConnectionTimeout(params, settings.connectTimeoutMs());
+        HttpConnectionParams.setSoTimeout(params, settings.socketTimeoutMs());
+        ConnManagerParams.setTimeout(params, settings.connectionRequestTimeoutMs());
+
+        DefaultHttpClient client = new DefaultHttpClient(connectionManager, params);
+        client.setKeepAliveStrategy((response, context) -> {
+            HeaderElementIterator elements = new BasicHeaderElementIterator(response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+            while (elements.hasNext()) {
+                HeaderElement element = elements.nextElement();
+                if ("timeout".equalsIgnoreCase(element.getName()) && element.getValue() != null) {
+                    try {
+                        return Math.min(Long.parseLong(element.getValue()) * 1000, settings.keepAliveMs());
+                    } catch (NumberFormatException ignored) {
+                        // fall back to the configured keep-alive
+                    }
+                }
+            }
+            return settings.keepAliveMs();
+        });
+        // request interceptors run once the connection is ready, response interceptors once the headers are in
+        client.addRequestInterceptor((request, context) -> {
+            ApiCallTiming timing = ApiCallTiming.current();
+            if (timing != null) {
+                timing.requestSent(request instanceof HttpEntityEnclosingRequest enclosing && enclosing.getEntity() != null
+                        ? enclosing.getEntity().getContentLength()
+                        : 0);
+            }
+        });
+        client.addResponseInterceptor((response, context) -> {
+            ApiCallTiming timing = ApiCallTiming.current();
+            if (timing != null) {
+                timing.headersReceived();
+            }
+            HttpEntity entity = response.getEntity();
+            if (entity != null && entity.isStreaming() && entity.getContentLength() == 0) {
+                ByteArrayEntity empty = new ByteArrayEntity(new byte[0]);
+                empty.setContentType(entity.getContentType());
+                empty.setContentEncoding(entity.getContentEncoding());
+                response.setEntity(empty);
+            }
+        });
+        return client;
+    }
+
+    public PooledConnectionManager getConnectionManager() {
+        return connectionManager;
+    }
+
+    private void startIdleConnectionEviction() {
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "restBooker-idle-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(settings.idleEvictionMs(), TimeUnit.MILLISECONDS);
+        }, settings.evictionIntervalMs(), settings.evictionIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+}
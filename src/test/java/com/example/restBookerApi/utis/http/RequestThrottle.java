@@ -0,0 +1,67 @@
+package com.example.restBookerApi.utis.http;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public final class RequestThrottle {
+    private final ThrottleSettings settings;
+    private final TokenBucket globalBucket;
+    private final Map<String, TokenBucket> endpointBuckets = new ConcurrentHashMap<>();
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+
+    public RequestThrottle(ThrottleSettings settings) {
+        this.settings = settings;
+        this.globalBucket = settings.ratePerSecond() > 0 ? new TokenBucket(settings.ratePerSecond(), settings.burst()) : null;
+        settings.endpointRates().forEach((endpoint, rate) ->
+                endpointBuckets.put(endpoint, new TokenBucket(rate, settings.burst())));
+        this.concurrencyLimit = settings.adaptiveConcurrency()
+                ? new AdaptiveConcurrencyLimit(settings.initialConcurrency(), settings.minConcurrency(),
+                settings.maxConcurrency(), settings.latencyTolerance())
+                : null;
+    }
+
+    public boolean isEnabled() {
+        return settings.enabled();
+    }
+
+    // blocks until the request may be sent and returns the time spent waiting, 0 when it went straight through
+    public long acquire(String endpoint) {
+        long start = System.nanoTime();
+        boolean waited;
+        try {
+            TokenBucket endpointBucket = endpointBuckets.get(endpoint);
+            long wait = Math.max(globalBucket == null ? 0 : globalBucket.reserve(),
+                    endpointBucket == null ? 0 : endpointBucket.reserve());
+            waited = wait > 0;
+            if (waited) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            if (concurrencyLimit != null && concurrencyLimit.acquire()) {
+                waited = true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the request throttle", e);
+        }
+        return waited ? System.nanoTime() - start : 0;
+    }
+
+    public void release(int statusCode, long latencyNanos) {
+        if (concurrencyLimit != null) {
+            concurrencyLimit.release(statusCode, latencyNanos);
+        }
+    }
+
+    public void abandon() {
+        if (concurrencyLimit != null) {
+            concurrencyLimit.abandon();
+        }
+    }
+
+    public String stats() {
+        return String.format("ratePerSecond=%s, endpointRates=%s, concurrency=[%s]",
+                settings.ratePerSecond() > 0 ? settings.ratePerSecond() : "unlimited", settings.endpointRates(),
+                concurrencyLimit == null ? "fixed" : concurrencyLimit.stats());
+    }
+}
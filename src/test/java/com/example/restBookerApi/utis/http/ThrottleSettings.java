@@ -0,0 +1,45 @@
+package com.example.restBookerApi.utis.http;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public record ThrottleSettings(double ratePerSecond,
+                               int burst,
+                               Map<String, Double> endpointRates,
+                               boolean adaptiveConcurrency,
+                               int initialConcurrency,
+                               int minConcurrency,
+                               int maxConcurrency,
+                               double latencyTolerance) {
+
+    public static ThrottleSettings fromSystemProperties() {
+        return new ThrottleSettings(
+                Double.parseDouble(System.getProperty("restBooker.throttle.ratePerSecond", "0")),
+                Integer.getInteger("restBooker.throttle.burst", 10),
+                parseEndpointRates(System.getProperty("restBooker.throttle.endpointRates", "")),
+                Boolean.getBoolean("restBooker.throttle.adaptive"),
+                Integer.getInteger("restBooker.throttle.initialConcurrency", 16),
+                Integer.getInteger("restBooker.throttle.minConcurrency", 1),
+                Integer.getInteger("restBooker.throttle.maxConcurrency", 200),
+                Double.parseDouble(System.getProperty("restBooker.throttle.latencyTolerance", "2.0")));
+    }
+
+    public boolean enabled() {
+        return ratePerSecond > 0 || !endpointRates.isEmpty() || adaptiveConcurrency;
+    }
+
+    static Map<String, Double> parseEndpointRates(String spec) {
+        Map<String, Double> rates = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Endpoint rates must look like <METHOD path>=<rate>, got: " + entry);
+            }
+            rates.put(entry.substring(0, separator).trim(), Double.parseDouble(entry.substring(separator + 1).trim()));
+        }
+        return rates;
+    }
+}
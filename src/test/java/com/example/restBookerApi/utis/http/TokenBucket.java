@@ -0,0 +1,29 @@
+package com.example.restBookerApi.utis.http;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class TokenBucket {
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos = new AtomicLong(System.nanoTime());
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be positive: " + permitsPerSecond + "/" + burst);
+        }
+        this.intervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstToleranceNanos = intervalNanos * (burst - 1);
+    }
+
+    // reserves the next permit and returns how long the caller has to wait for it
+    public long reserve() {
+        while (true) {
+            long now = System.nanoTime();
+            long arrival = theoreticalArrivalNanos.get();
+            long next = Math.max(arrival, now) + intervalNanos;
+            if (theoreticalArrivalNanos.compareAndSet(arrival, next)) {
+                return Math.max(0, arrival - burstToleranceNanos - now);
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.restBookerApi.utis.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+public class ApiCallAnalyzer {
+    private static final String GARBAGE_COLLECTION = "jdk.GarbageCollection";
+    // the JDK's own stall events for a thread, a pooled connection lease shows up as a park
+    private static final Set<String> THREAD_STALLS = Set.of("jdk.ThreadPark", "jdk.JavaMonitorEnter");
+    private final List<Call> calls = new ArrayList<>();
+    private final Map<Long, Duration> validations = new HashMap<>();
+    private final List<RecordedEvent> collections = new ArrayList<>();
+    private final Map<String, List<RecordedEvent>> stalls = new HashMap<>();
+    private Instant recordingStart;
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("Usage: ApiCallAnalyzer <recording.jfr> [slowest calls, default 20]");
+        }
+        ApiCallAnalyzer analyzer = ApiCallAnalyzer.read(Path.of(args[0]));
+        analyzer.printSummary(System.out);
+        analyzer.printSlowest(System.out, args.length > 1 ? Integer.parseInt(args[1]) : 20);
+    }
+
+    public static ApiCallAnalyzer read(Path recording) {
+        ApiCallAnalyzer analyzer = new ApiCallAnalyzer();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                analyzer.add(file.readEvent());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return analyzer;
+    }
+
+    public List<Call> calls() {
+        return calls;
+    }
+
+    public void printSummary(PrintStream out) {
+        Map<String, List<Call>> byEndpoint = new TreeMap<>();
+        calls.forEach(call -> byEndpoint.computeIfAbsent(call.pathTemplate() + " " + call.method(),
+                key -> new ArrayList<>()).add(call));
+        out.printf("%-7s %-16s %7s %6s %9s %9s %9s %9s %9s %9s %9s %9s %9s %7s %7s%n", "method", "path", "calls",
+                "errors", "p50 ms", "p95 ms", "p99 ms", "max ms", "pool ms", "conn ms", "ttfb ms", "body ms",
+                "valid ms", "req B", "resp B");
+        for (List<Call> endpoint : byEndpoint.values()) {
+            Histogram latency = new Histogram(3);
+            long errors = 0;
+            long poolWait = 0;
+            long connect = 0;
+            long timeToFirstByte = 0;
+            long bodyRead = 0;
+            long validation = 0;
+            long validated = 0;
+            long requestBytes = 0;
+            long responseBytes = 0;
+            for (Call call : endpoint) {
+                latency.recordValue(Math.max(1, call.duration().toNanos() / 1_000));
+                errors += call.statusCode() < 0 || call.statusCode() >= 400 ? 1 : 0;
+                poolWait += call.poolWait().toNanos();
+                connect += call.connect().toNanos();
+                timeToFirstByte += call.timeToFirstByte().toNanos();
+                bodyRead += call.bodyRead().toNanos();
+                requestBytes += call.requestBytes();
+                responseBytes += call.responseBytes();
+                Duration checked = validations.get(call.callId());
+                if (checked != null) {
+                    validation += checked.toNanos();
+                    validated++;
+                }
+            }
+            int count = endpoint.size();
+            Call first = endpoint.get(0);
+            out.printf("%-7s %-16s %7d %6d %9.2f %9.2f %9.2f %9.2f %9.3f %9.3f %9.2f %9.3f %9s %7d %7d%n",
+                    first.method(), first.pathTemplate(), count, errors,
+                    latency.getValueAtPercentile(50) / 1_000.0, latency.getValueAtPercentile(95) / 1_000.0,
+                    latency.getValueAtPercentile(99) / 1_000.0, latency.getMaxValue() / 1_000.0,
+                    averageMs(poolWait, count), averageMs(connect, count), averageMs(timeToFirstByte, count),
+                    averageMs(bodyRead, count),
+                    validated == 0 ? "-" : String.format("%.3f", averageMs(validation, validated)), requestBytes / count,
+                    responseBytes / count);
+        }
+    }
+
+    // the slowest calls in the order they happened, next to the GC pauses and thread stalls that overlapped them
+    public void printSlowest(PrintStream out, int limit) {
+        List<Call> slowest = calls.stream()
+                .sorted(Comparator.comparing(Call::duration).reversed())
+                .limit(limit)
+                .sorted(Comparator.comparing(Call::start))
+                .toList();
+        out.printf("%d slowest of %d calls%n", slowest.size(), calls.size());
+        for (Call call : slowest) {
+            Duration validation = validations.get(call.callId());
+            out.printf("+%9.3f s %9.2f ms  %-7s %-16s %-8s %3d%s  %-28s throttle %.2f, pool %.2f, connect %.2f, "
+                            + "ttfb %.2f, body %.2f, client %.2f, validation %s ms%n",
+                    seconds(Duration.between(recordingStart, call.start())), millis(call.duration()), call.method(),
+                    call.pathTemplate(), call.bookingId() == null ? "" : call.bookingId(), call.statusCode(),
+                    call.replayed() ? " replayed" : "",
+                    call.thread(), millis(call.throttleWait()), millis(call.poolWait()), millis(call.connect()),
+                    millis(call.timeToFirstByte()), millis(call.bodyRead()), millis(call.clientTime()),
+                    validation == null ? "-" : String.format("%.2f", millis(validation)));
+            for (RecordedEvent collection : collections) {
+                if (overlaps(collection, call)) {
+                    out.printf("             GC %s (%s), pauses %.2f ms%n", collection.getString("name"),
+                            collection.getString("cause"), millis(collection.getDuration("sumOfPauses")));
+                }
+            }
+            Map<String, List<Duration>> threadStalls = new TreeMap<>();
+            for (RecordedEvent stall : stalls.getOrDefault(call.thread(), List.of())) {
+                if (overlaps(stall, call)) {
+                    threadStalls.computeIfAbsent(stall.getEventType().getLabel(), key -> new ArrayList<>())
+                            .add(stall.getDuration());
+                }
+            }
+            threadStalls.forEach((label, durations) -> out.printf("             %s %.2f ms in %d events%n", label,
+                    millis(durations.stream().reduce(Duration.ZERO, Duration::plus)), durations.size()));
+        }
+    }
+
+    private void add(RecordedEvent event) {
+        if (recordingStart == null || event.getStartTime().isBefore(recordingStart)) {
+            recordingStart = event.getStartTime();
+        }
+        String type = event.getEventType().getName();
+        if (type.equals(ApiCallEvent.NAME)) {
+            calls.add(new Call(event.getLong("callId"), event.getStartTime(), event.getDuration(), threadName(event),
+                    event.getString("method"), event.getString("pathTemplate"), event.getString("bookingId"),
+                    event.getInt("statusCode"), event.getLong("requestBytes"), event.getLong("responseBytes"),
+                    event.getDuration("throttleWait"), event.getDuration("poolWait"), event.getDuration("connect"),
+                    event.getDuration("timeToFirstByte"), event.getDuration("bodyRead"), event.getBoolean("replayed")));
+        } else if (type.equals(ResponseValidationEvent.NAME)) {
+            validations.merge(event.getLong("callId"), event.getDuration(), Duration::plus);
+        } else if (type.equals(GARBAGE_COLLECTION)) {
+            collections.add(event);
+        } else if (THREAD_STALLS.contains(type)) {
+            stalls.computeIfAbsent(threadName(event), key -> new ArrayList<>()).add(event);
+        }
+    }
+
+    private static boolean overlaps(RecordedEvent event, Call call) {
+        return event.getStartTime().isBefore(call.start().plus(call.duration())) && event.getEndTime().isAfter(call.start());
+    }
+
+    private static String threadName(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        return thread == null ? "" : thread.getJavaName();
+    }
+
+    private static double averageMs(long totalNanos, long count) {
+        return count == 0 ? 0 : totalNanos / (double) count / 1_000_000.0;
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toNanos() / 1_000_000_000.0;
+    }
+
+    public record Call(long callId, Instant start, Duration duration, String thread, String method,
+                       String pathTemplate, String bookingId, int statusCode, long requestBytes, long responseBytes,
+                       Duration throttleWait, Duration poolWait, Duration connect, Duration timeToFirstByte,
+                       Duration bodyRead, boolean replayed) {
+
+        // request building, filters and response handling inside REST Assured
+        public Duration clientTime() {
+            Duration measured = throttleWait.plus(poolWait).plus(connect).plus(timeToFirstByte).plus(bodyRead);
+            return measured.compareTo(duration) < 0 ? duration.minus(measured) : Duration.ZERO;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.restBookerApi.utis.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name(ApiCallEvent.NAME)
+@Label("API Call")
+@Category({"Restful-booker", "HTTP"})
+@Description("One ApiConfig.sendRequest call, including a token renewal retry")
+@StackTrace(false)
+public class ApiCallEvent extends Event {
+    public static final String NAME = "restBooker.ApiCall";
+
+    @Label("Call ID")
+    public long callId;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Path Template")
+    public String pathTemplate;
+
+    @Label("Booking ID")
+    public String bookingId;
+
+    @Label("Status Code")
+    public int statusCode;
+
+    @Label("Request Size")
+    @DataAmount
+    public long requestBytes;
+
+    @Label("Response Size")
+    @DataAmount
+    public long responseBytes;
+
+    @Label("Throttle Wait")
+    @Timespan
+    public long throttleWait;
+
+    @Label("Pool Wait")
+    @Timespan
+    public long poolWait;
+
+    @Label("Connect")
+    @Timespan
+    public long connect;
+
+    @Label("Time To First Byte")
+    @Timespan
+    public long timeToFirstByte;
+
+    @Label("Body Read")
+    @Timespan
+    public long bodyRead;
+
+    @Label("Replayed")
+    @Description("Answered from a recorded exchange, no request went over the network")
+    public boolean replayed;
+}
@@ -0,0 +1,88 @@
+package com.example.restBookerApi.utis.jfr;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// only exists while a recording is running, the HTTP hooks see null otherwise and do nothing
+public final class ApiCallTiming {
+    private static final ThreadLocal<ApiCallTiming> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<ApiCallTiming> LAST = new ThreadLocal<>();
+    private static final AtomicLong CALL_IDS = new AtomicLong();
+    private final long callId = CALL_IDS.incrementAndGet();
+    private final String method;
+    private final String pathTemplate;
+    private long throttleWaitNanos;
+    private long poolWaitNanos;
+    private long connectNanos;
+    private long timeToFirstByteNanos;
+    private long requestBytes;
+    private long requestSentAt;
+    private long headersReceivedAt;
+
+    private ApiCallTiming(String method, String pathTemplate) {
+        this.method = method;
+        this.pathTemplate = pathTemplate;
+    }
+
+    public static ApiCallTiming start(String method, String pathTemplate) {
+        ApiCallTiming timing = new ApiCallTiming(method, pathTemplate);
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    public static ApiCallTiming current() {
+        return CURRENT.get();
+    }
+
+    // the call a response validation on this thread belongs to
+    public static ApiCallTiming last() {
+        return LAST.get();
+    }
+
+    public void addThrottleWait(long nanos) {
+        throttleWaitNanos += nanos;
+    }
+
+    public void addPoolWait(long nanos) {
+        poolWaitNanos += nanos;
+    }
+
+    public void addConnect(long nanos) {
+        connectNanos += nanos;
+    }
+
+    public void requestSent(long bytes) {
+        requestSentAt = System.nanoTime();
+        requestBytes += Math.max(bytes, 0);
+    }
+
+    public void headersReceived() {
+        headersReceivedAt = System.nanoTime();
+        if (requestSentAt != 0) {
+            timeToFirstByteNanos += headersReceivedAt - requestSentAt;
+        }
+    }
+
+    public void finish(ApiCallEvent event, long endNanos) {
+        CURRENT.remove();
+        LAST.set(this);
+        event.callId = callId;
+        event.requestBytes = requestBytes;
+        event.throttleWait = throttleWaitNanos;
+        event.poolWait = poolWaitNanos;
+        event.connect = connectNanos;
+        event.timeToFirstByte = timeToFirstByteNanos;
+        event.bodyRead = headersReceivedAt == 0 ? 0 : endNanos - headersReceivedAt;
+    }
+
+    public long getCallId() {
+        return callId;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPathTemplate() {
+        return pathTemplate;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.restBookerApi.utis.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(ResponseValidationEvent.NAME)
+@Label("Response Validation")
+@Category({"Restful-booker", "HTTP"})
+@Description("One ValidationBatch.verify, linked to the last API call made on the same thread")
+@StackTrace(false)
+public class ResponseValidationEvent extends Event {
+    public static final String NAME = "restBooker.ResponseValidation";
+
+    @Label("Call ID")
+    public long callId;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Path Template")
+    public String pathTemplate;
+
+    @Label("Checks")
+    public int checks;
+
+    @Label("Failures")
+    public int failures;
+}
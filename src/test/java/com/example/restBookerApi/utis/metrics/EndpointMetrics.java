@@ -0,0 +1,90 @@
+package com.example.restBookerApi.utis.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class EndpointMetrics {
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private final String method;
+    private final String pathTemplate;
+    private final Recorder recorder = new Recorder(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Histogram accumulated = new Histogram(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder throttledCalls = new LongAdder();
+    private final LongAdder throttleWaitNanos = new LongAdder();
+    private final LongAccumulator maxThrottleWaitNanos = new LongAccumulator(Math::max, 0);
+    private Histogram interval;
+
+    EndpointMetrics(String method, String pathTemplate) {
+        this.method = method;
+        this.pathTemplate = pathTemplate;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPathTemplate() {
+        return pathTemplate;
+    }
+
+    public String getName() {
+        return method + " " + pathTemplate;
+    }
+
+    public void record(long latencyNanos, int statusCode) {
+        long latencyMicros = Math.min(Math.max(latencyNanos / 1_000, 1), HIGHEST_TRACKABLE_MICROS);
+        recorder.recordValue(latencyMicros);
+        calls.increment();
+        if (statusCode < 0 || statusCode >= 500) {
+            errors.increment();
+        } else if (statusCode >= 400) {
+            clientErrors.increment();
+        }
+    }
+
+    public void recordThrottleWait(long waitNanos) {
+        if (waitNanos > 0) {
+            throttledCalls.increment();
+            throttleWaitNanos.add(waitNanos);
+            maxThrottleWaitNanos.accumulate(waitNanos);
+        }
+    }
+
+    public long getThrottledCalls() {
+        return throttledCalls.sum();
+    }
+
+    public long getThrottleWaitNanos() {
+        return throttleWaitNanos.sum();
+    }
+
+    public long getMaxThrottleWaitNanos() {
+        return maxThrottleWaitNanos.get();
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getClientErrors() {
+        return clientErrors.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public synchronized Histogram snapshot() {
+        interval = recorder.getIntervalHistogram(interval);
+        accumulated.add(interval);
+        return accumulated.copy();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.restBookerApi.utis.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+
+public final class LatencyMetrics {
+    private static final LatencyMetrics INSTANCE = new LatencyMetrics();
+    private final Map<String, Map<String, EndpointMetrics>> endpoints = new ConcurrentHashMap<>();
+    private final LongAccumulator firstCallNanos = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator lastCallNanos = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    private LatencyMetrics() {
+    }
+
+    public static LatencyMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    public EndpointMetrics endpoint(String method, String pathTemplate) {
+        Map<String, EndpointMetrics> byPath = endpoints.get(method);
+        if (byPath == null) {
+            byPath = endpoints.computeIfAbsent(method, key -> new ConcurrentHashMap<>());
+        }
+        EndpointMetrics endpoint = byPath.get(pathTemplate);
+        if (endpoint == null) {
+            endpoint = byPath.computeIfAbsent(pathTemplate, key -> new EndpointMetrics(method, key));
+        }
+        return endpoint;
+    }
+
+    public void record(EndpointMetrics endpoint, long startNanos, long endNanos, int statusCode) {
+        endpoint.record(endNanos - startNanos, statusCode);
+        firstCallNanos.accumulate(startNanos);
+        lastCallNanos.accumulate(endNanos);
+    }
+
+    // drops everything recorded so far, e.g. a warm-up, calls still in flight may land in the dropped endpoints
+    public void reset() {
+        endpoints.clear();
+        firstCallNanos.reset();
+        lastCallNanos.reset();
+    }
+
+    public List<EndpointMetrics> endpoints() {
+        List<EndpointMetrics> all = new ArrayList<>();
+        endpoints.values().forEach(byPath -> all.addAll(byPath.values()));
+        all.sort(Comparator.comparing(EndpointMetrics::getPathTemplate).thenComparing(EndpointMetrics::getMethod));
+        return all;
+    }
+
+    public double elapsedSeconds() {
+        long first = firstCallNanos.get();
+        long last = lastCallNanos.get();
+        return last > first ? (last - first) / 1_000_000_000.0 : 0;
+    }
+}
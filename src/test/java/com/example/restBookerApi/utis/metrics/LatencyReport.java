@@ -0,0 +1,218 @@
+package com.example.restBookerApi.utis.metrics;
+
+import com.example.restBookerApi.utis.sharding.ShardSettings;
+import org.HdrHistogram.Histogram;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+
+public class LatencyReport {
+    public static final String REPORT_FILE = System.getProperty("restBooker.metrics.reportFile", defaultReportFile());
+    private final List<Row> rows;
+    private final double elapsedSeconds;
+
+    private LatencyReport(List<Row> rows, double elapsedSeconds) {
+        this.rows = rows;
+        this.elapsedSeconds = elapsedSeconds;
+    }
+
+    public static LatencyReport of(LatencyMetrics metrics) {
+        List<Row> rows = new ArrayList<>();
+        for (EndpointMetrics endpoint : metrics.endpoints()) {
+            rows.add(new Row(endpoint.getMethod(), endpoint.getPathTemplate(), endpoint.snapshot(),
+                    endpoint.getClientErrors(), endpoint.getErrors(), endpoint.getThrottledCalls(),
+                    endpoint.getThrottleWaitNanos(), endpoint.getMaxThrottleWaitNanos()));
+        }
+        return new LatencyReport(rows, metrics.elapsedSeconds());
+    }
+
+    public static LatencyReport read(Path file) {
+        try {
+            JSONObject report = new JSONObject(Files.readString(file, StandardCharsets.UTF_8));
+            JSONArray endpoints = report.getJSONArray("endpoints");
+            List<Row> rows = new ArrayList<>();
+            for (int i = 0; i < endpoints.length(); i++) {
+                JSONObject endpoint = endpoints.getJSONObject(i);
+                rows.add(new Row(endpoint.getString("method"), endpoint.getString("path"),
+                        decode(endpoint.getString("histogram")), endpoint.getLong("clientErrors"),
+                        endpoint.getLong("errors"), endpoint.optLong("throttledCalls"),
+                        Math.round(endpoint.optDouble("throttleWaitMs", 0) * 1_000_000),
+                        Math.round(endpoint.optDouble("maxThrottleWaitMs", 0) * 1_000_000)));
+            }
+            return new LatencyReport(rows, report.getDouble("elapsedSeconds"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // shards run side by side, so the merged run lasted as long as the slowest shard
+    public static LatencyReport merge(List<LatencyReport> reports) {
+        Map<String, Row> merged = new LinkedHashMap<>();
+        double elapsedSeconds = 0;
+        for (LatencyReport report : reports) {
+            elapsedSeconds = Math.max(elapsedSeconds, report.elapsedSeconds);
+            for (Row row : report.rows) {
+                merged.merge(row.method() + " " + row.pathTemplate(), row, Row::plus);
+            }
+        }
+        List<Row> rows = new ArrayList<>(merged.values());
+        rows.sort((left, right) -> left.pathTemplate().equals(right.pathTemplate())
+                ? left.method().compareTo(right.method())
+                : left.pathTemplate().compareTo(right.pathTemplate()));
+        return new LatencyReport(rows, elapsedSeconds);
+    }
+
+    // a run that knows its own measured window, rather than first to last call, reports throughput over it
+    public LatencyReport withElapsedSeconds(double seconds) {
+        return new LatencyReport(rows, seconds);
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%-7s %-16s %9s %10s %9s %9s %9s %9s %9s %9s %7s %7s%n", "method", "path", "calls", "req/s",
+                "p50 ms", "p90 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms", "4xx", "errors");
+        for (Row row : rows) {
+            out.printf("%-7s %-16s %9d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f %7d %7d%n",
+                    row.method(), row.pathTemplate(), row.calls(), row.throughput(elapsedSeconds),
+                    row.percentileMs(50), row.percentileMs(90), row.percentileMs(95), row.percentileMs(99),
+                    row.percentileMs(99.9), row.maxMs(), row.clientErrors(), row.errors());
+        }
+        for (Row row : rows) {
+            if (row.throttledCalls() > 0) {
+                out.printf("throttled %-7s %-16s %9d calls waited %.2f ms total, %.2f ms max%n", row.method(),
+                        row.pathTemplate(), row.throttledCalls(), row.throttleWaitMs(), row.maxThrottleWaitMs());
+            }
+        }
+        out.printf("elapsed %.3f s%n", elapsedSeconds);
+    }
+
+    public JSONObject toJson() {
+        JSONArray endpoints = new JSONArray();
+        for (Row row : rows) {
+            JSONObject endpoint = new JSONObject();
+            endpoint.put("method", row.method());
+            endpoint.put("path", row.pathTemplate());
+            endpoint.put("calls", row.calls());
+            endpoint.put("throughputPerSecond", row.throughput(elapsedSeconds));
+            endpoint.put("p50Ms", row.percentileMs(50));
+            endpoint.put("p90Ms", row.percentileMs(90));
+            endpoint.put("p95Ms", row.percentileMs(95));
+            endpoint.put("p99Ms", row.percentileMs(99));
+            endpoint.put("p999Ms", row.percentileMs(99.9));
+            endpoint.put("maxMs", row.maxMs());
+            endpoint.put("clientErrors", row.clientErrors());
+            endpoint.put("errors", row.errors());
+            endpoint.put("throttledCalls", row.throttledCalls());
+            endpoint.put("throttleWaitMs", row.throttleWaitMs());
+            endpoint.put("maxThrottleWaitMs", row.maxThrottleWaitMs());
+            endpoint.put("histogram", encode(row.histogram()));
+            endpoints.put(endpoint);
+        }
+        JSONObject report = new JSONObject();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    List<Row> rows() {
+        return rows;
+    }
+
+    double elapsedSeconds() {
+        return elapsedSeconds;
+    }
+
+    Row total() {
+        Histogram all = new Histogram(3);
+        long clientErrors = 0;
+        long errors = 0;
+        for (Row row : rows) {
+            all.add(row.histogram());
+            clientErrors += row.clientErrors();
+            errors += row.errors();
+        }
+        return new Row("ALL", "*", all, clientErrors, errors, 0, 0, 0);
+    }
+
+    public void write(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, toJson().toString(2), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+
+    static Histogram decode(String encoded) {
+        try {
+            return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(Base64.getDecoder().decode(encoded)), 0);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupt histogram in latency report", e);
+        }
+    }
+
+    private static String defaultReportFile() {
+        ShardSettings shard = ShardSettings.fromSystemProperties();
+        return shard.enabled()
+                ? "target/shards/shard-" + shard.index() + "/latency-report.json"
+                : "target/latency-report.json";
+    }
+
+    record Row(String method, String pathTemplate, Histogram histogram, long clientErrors, long errors,
+               long throttledCalls, long throttleWaitNanos, long maxThrottleWaitNanos) {
+        long calls() {
+            return histogram.getTotalCount();
+        }
+
+        double throughput(double elapsedSeconds) {
+            return elapsedSeconds > 0 ? calls() / elapsedSeconds : 0;
+        }
+
+        double percentileMs(double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1_000.0;
+        }
+
+        double maxMs() {
+            return histogram.getMaxValue() / 1_000.0;
+        }
+
+        double throttleWaitMs() {
+            return throttleWaitNanos / 1_000_000.0;
+        }
+
+        double maxThrottleWaitMs() {
+            return maxThrottleWaitNanos / 1_000_000.0;
+        }
+
+        Row plus(Row other) {
+            Histogram sum = histogram.copy();
+            sum.add(other.histogram);
+            return new Row(method, pathTemplate, sum, clientErrors + other.clientErrors, errors + other.errors,
+                    throttledCalls + other.throttledCalls, throttleWaitNanos + other.throttleWaitNanos,
+                    Math.max(maxThrottleWaitNanos, other.maxThrottleWaitNanos));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.restBookerApi.utis.metrics;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.nio.file.Path;
+
+public class LatencyReportListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        LatencyReport report = LatencyReport.of(LatencyMetrics.getInstance());
+        report.print(System.out);
+        report.write(Path.of(LatencyReport.REPORT_FILE));
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.restBookerApi.utis.metrics;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class PerformanceGate {
+    private final PerformanceGateSettings settings;
+    private final Scenario scenario;
+
+    public PerformanceGate(PerformanceGateSettings settings, Scenario scenario) {
+        this.settings = settings;
+        this.scenario = scenario;
+    }
+
+    public Path baselineFile() {
+        return settings.baselineFile(scenario);
+    }
+
+    public boolean hasBaseline() {
+        return Files.exists(baselineFile());
+    }
+
+    // writes the baseline or judges the report against it, false only when something regressed
+    public boolean apply(LatencyReport report, PrintStream out) {
+        if (settings.updateBaseline()) {
+            writeBaseline(report);
+            out.println("Performance baseline written to " + baselineFile().toAbsolutePath());
+            return true;
+        }
+        if (!settings.enabled()) {
+            return true;
+        }
+        if (!hasBaseline()) {
+            out.println("No performance baseline at " + baselineFile() + ", gate skipped");
+            return true;
+        }
+        List<String> regressions = check(report, out);
+        regressions.forEach(regression -> out.println("REGRESSED " + regression));
+        return regressions.isEmpty();
+    }
+
+    public List<String> check(LatencyReport report, PrintStream out) {
+        Map<String, JSONObject> baseline = readBaseline(baselineFile());
+        List<String> regressions = new ArrayList<>();
+        out.printf("%-7s %-16s %9s %12s %12s %12s %12s  %s%n", "method", "path", "calls", "base p95", "p95",
+                "base req/s", "req/s", "verdict");
+        for (LatencyReport.Row row : gatedRows(report)) {
+            JSONObject expected = baseline.get(row.method() + " " + row.pathTemplate());
+            double p95 = row.percentileMs(95);
+            double throughput = row.throughput(report.elapsedSeconds());
+            String verdict;
+            if (expected == null) {
+                verdict = "no baseline";
+            } else if (row.calls() < settings.minSamples() || expected.getLong("calls") < settings.minSamples()) {
+                verdict = "too few samples";
+            } else {
+                List<String> failures = compare(row, expected, p95, throughput);
+                regressions.addAll(failures);
+                verdict = failures.isEmpty() ? "ok" : "REGRESSED";
+            }
+            out.printf("%-7s %-16s %9d %12s %12.2f %12s %12.1f  %s%n", row.method(), row.pathTemplate(), row.calls(),
+                    expected == null ? "-" : String.format("%.2f", expected.getDouble("p95Ms")), p95,
+                    expected == null || !expected.has("throughputPerSecond") ? "-"
+                            : String.format("%.1f", expected.getDouble("throughputPerSecond")),
+                    throughput, verdict);
+        }
+        return regressions;
+    }
+
+    public void writeBaseline(LatencyReport report) {
+        JSONArray endpoints = new JSONArray();
+        for (LatencyReport.Row row : gatedRows(report)) {
+            JSONObject endpoint = new JSONObject()
+                    .put("method", row.method())
+                    .put("path", row.pathTemplate())
+                    .put("calls", row.calls())
+                    .put("p95Ms", row.percentileMs(95));
+            if (scenario.judgesThroughput()) {
+                endpoint.put("throughputPerSecond", row.throughput(report.elapsedSeconds()));
+            }
+            endpoints.put(endpoint);
+        }
+        JSONObject baseline = new JSONObject()
+                .put("environment", settings.environment())
+                .put("scenario", scenario.name().toLowerCase(Locale.ROOT))
+                .put("processors", Runtime.getRuntime().availableProcessors())
+                .put("recordedAt", Instant.now().toString())
+                .put("endpoints", endpoints);
+        Path file = baselineFile();
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, baseline.toString(2), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // single suite endpoints see too few calls for a stable p95, all of them together still catch a general slowdown
+    private List<LatencyReport.Row> gatedRows(LatencyReport report) {
+        if (scenario != Scenario.SUITE) {
+            return report.rows();
+        }
+        List<LatencyReport.Row> rows = new ArrayList<>(report.rows());
+        rows.add(report.total());
+        return rows;
+    }
+
+    private List<String> compare(LatencyReport.Row row, JSONObject expected, double p95, double throughput) {
+        List<String> failures = new ArrayList<>();
+        double p95Limit = expected.getDouble("p95Ms") * (1 + settings.p95Tolerance()) + settings.absoluteSlackMs();
+        if (p95 > p95Limit) {
+            failures.add(String.format("%s %s p95 %.2f ms exceeds %.2f ms (baseline %.2f ms)", row.method(),
+                    row.pathTemplate(), p95, p95Limit, expected.getDouble("p95Ms")));
+        }
+        if (!scenario.judgesThroughput() || !expected.has("throughputPerSecond")) {
+            return failures;
+        }
+        double throughputLimit = expected.getDouble("throughputPerSecond") * (1 - settings.throughputTolerance());
+        if (throughput < throughputLimit) {
+            failures.add(String.format("%s %s throughput %.1f req/s is below %.1f req/s (baseline %.1f req/s)",
+                    row.method(), row.pathTemplate(), throughput, throughputLimit,
+                    expected.getDouble("throughputPerSecond")));
+        }
+        return failures;
+    }
+
+    private static Map<String, JSONObject> readBaseline(Path file) {
+        Map<String, JSONObject> baseline = new HashMap<>();
+        if (!Files.exists(file)) {
+            return baseline;
+        }
+        try {
+            JSONArray endpoints = new JSONObject(Files.readString(file, StandardCharsets.UTF_8)).getJSONArray("endpoints");
+            for (int i = 0; i < endpoints.length(); i++) {
+                JSONObject endpoint = endpoints.getJSONObject(i);
+                baseline.put(endpoint.getString("method") + " " + endpoint.getString("path"), endpoint);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return baseline;
+    }
+
+    // the suite's throughput only reflects which tests happened to run, a load run's reflects the service
+    public enum Scenario {
+        SUITE(false, 1.0, 20),
+        LOAD(true, 0.3, 20);
+
+        private final boolean judgesThroughput;
+        private final double defaultP95Tolerance;
+        private final long defaultMinSamples;
+
+        Scenario(boolean judgesThroughput, double defaultP95Tolerance, long defaultMinSamples) {
+            this.judgesThroughput = judgesThroughput;
+            this.defaultP95Tolerance = defaultP95Tolerance;
+            this.defaultMinSamples = defaultMinSamples;
+        }
+
+        public boolean judgesThroughput() {
+            return judgesThroughput;
+        }
+
+        double defaultP95Tolerance() {
+            return defaultP95Tolerance;
+        }
+
+        long defaultMinSamples() {
+            return defaultMinSamples;
+        }
+
+        String fileName() {
+            return name().toLowerCase(Locale.ROOT) + ".json";
+        }
+    }
+}
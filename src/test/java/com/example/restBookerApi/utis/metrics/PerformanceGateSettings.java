@@ -0,0 +1,43 @@
+package com.example.restBookerApi.utis.metrics;
+
+import com.example.restBookerApi.utis.authentication.ApiConstants;
+
+import java.net.URI;
+import java.nio.file.Path;
+
+public record PerformanceGateSettings(Path baselineDirectory,
+                                      String environment,
+                                      boolean updateBaseline,
+                                      boolean enabled,
+                                      double p95Tolerance,
+                                      double throughputTolerance,
+                                      double absoluteSlackMs,
+                                      long minSamples) {
+
+    // tolerance and sample floor default per scenario, the suite makes a few calls per endpoint, a load run thousands
+    public static PerformanceGateSettings fromSystemProperties(PerformanceGate.Scenario scenario) {
+        return new PerformanceGateSettings(
+                Path.of(System.getProperty("restBooker.perf.baselineDir", "src/test/resources/performance-baselines")),
+                System.getProperty("restBooker.perf.environment", defaultEnvironment()),
+                Boolean.getBoolean("restBooker.perf.updateBaseline"),
+                Boolean.parseBoolean(System.getProperty("restBooker.perf.gate", "true")),
+                Double.parseDouble(System.getProperty("restBooker.perf.p95Tolerance",
+                        String.valueOf(scenario.defaultP95Tolerance()))),
+                Double.parseDouble(System.getProperty("restBooker.perf.throughputTolerance", "0.2")),
+                Double.parseDouble(System.getProperty("restBooker.perf.absoluteSlackMs", "10")),
+                Long.getLong("restBooker.perf.minSamples", scenario.defaultMinSamples()));
+    }
+
+    public Path baselineFile(PerformanceGate.Scenario scenario) {
+        return baselineDirectory.resolve(environment).resolve(scenario.fileName());
+    }
+
+    // the checked-in stub baseline comes from a slow machine, a much slower one should record and name its own
+    private static String defaultEnvironment() {
+        if (ApiConstants.usesStub()) {
+            return "stub";
+        }
+        String host = URI.create(ApiConstants.BASE_URL.trim()).getHost();
+        return host == null ? "remote" : host;
+    }
+}
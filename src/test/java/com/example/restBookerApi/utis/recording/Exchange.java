@@ -0,0 +1,44 @@
+package com.example.restBookerApi.utis.recording;
+
+import java.util.Arrays;
+import java.util.List;
+
+public record Exchange(String method,
+                       String path,
+                       boolean authenticated,
+                       long requestChecksum,
+                       List<String[]> requestHeaders,
+                       byte[] requestBody,
+                       int statusCode,
+                       List<String[]> responseHeaders,
+                       byte[] responseBody,
+                       long startEpochMillis,
+                       long durationNanos) {
+
+    public String key() {
+        return key(method, path, authenticated, requestChecksum);
+    }
+
+    // booking ids depend on creation order, so numeric path segments are matched as {id}
+    static String key(String method, String path, boolean authenticated, long requestChecksum) {
+        return method + (authenticated ? " auth " : " anonymous ") + normalizePath(path) + ' '
+                + Long.toHexString(requestChecksum);
+    }
+
+    static String normalizePath(String path) {
+        int query = path.indexOf('?');
+        String[] segments = (query < 0 ? path : path.substring(0, query)).split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            if (!segments[i].isEmpty() && segments[i].chars().allMatch(Character::isDigit)) {
+                segments[i] = "{id}";
+            }
+        }
+        String normalized = String.join("/", segments);
+        if (query < 0) {
+            return normalized;
+        }
+        String[] parameters = path.substring(query + 1).split("&");
+        Arrays.sort(parameters);
+        return normalized + '?' + String.join("&", parameters);
+    }
+}
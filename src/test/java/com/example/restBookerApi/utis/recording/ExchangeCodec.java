@@ -0,0 +1,101 @@
+package com.example.restBookerApi.utis.recording;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+final class ExchangeCodec {
+    // RBX2: the request checksum covers the caller's headers as well as the body
+    static final int FILE_MAGIC = 0x52425832;
+
+    private ExchangeCodec() {
+    }
+
+    static byte[] encode(Exchange exchange) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + exchange.responseBody().length
+                + exchange.requestBody().length);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0);
+            writeString(out, exchange.method());
+            writeString(out, exchange.path());
+            out.writeBoolean(exchange.authenticated());
+            out.writeLong(exchange.requestChecksum());
+            out.writeInt(exchange.statusCode());
+            out.writeLong(exchange.startEpochMillis());
+            out.writeLong(exchange.durationNanos());
+            writeHeaders(out, exchange.requestHeaders());
+            writeBytes(out, exchange.requestBody());
+            writeHeaders(out, exchange.responseHeaders());
+            writeBytes(out, exchange.responseBody());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] entry = bytes.toByteArray();
+        ByteBuffer.wrap(entry).putInt(0, entry.length - Integer.BYTES);
+        return entry;
+    }
+
+    static String readKey(ByteBuffer entry) {
+        String method = readString(entry);
+        String path = readString(entry);
+        boolean authenticated = entry.get() != 0;
+        return Exchange.key(method, path, authenticated, entry.getLong());
+    }
+
+    static Exchange decode(ByteBuffer entry) {
+        String method = readString(entry);
+        String path = readString(entry);
+        boolean authenticated = entry.get() != 0;
+        long checksum = entry.getLong();
+        int statusCode = entry.getInt();
+        long startEpochMillis = entry.getLong();
+        long durationNanos = entry.getLong();
+        List<String[]> requestHeaders = readHeaders(entry);
+        byte[] requestBody = readBytes(entry);
+        List<String[]> responseHeaders = readHeaders(entry);
+        byte[] responseBody = readBytes(entry);
+        return new Exchange(method, path, authenticated, checksum, requestHeaders, requestBody, statusCode, responseHeaders,
+                responseBody, startEpochMillis, durationNanos);
+    }
+
+    private static void writeHeaders(DataOutputStream out, List<String[]> headers) throws IOException {
+        out.writeShort(headers.size());
+        for (String[] header : headers) {
+            writeString(out, header[0]);
+            writeString(out, header[1]);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    private static List<String[]> readHeaders(ByteBuffer entry) {
+        int count = entry.getShort() & 0xFFFF;
+        List<String[]> headers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            headers.add(new String[]{readString(entry), readString(entry)});
+        }
+        return headers;
+    }
+
+    private static String readString(ByteBuffer entry) {
+        return new String(readBytes(entry), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(ByteBuffer entry) {
+        byte[] value = new byte[entry.getInt()];
+        entry.get(value);
+        return value;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.restBookerApi.utis.recording;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public final class ExchangeLog implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger("Restful-booker exchange log");
+    private static final byte[] CLOSE = new byte[0];
+    private static final int BUFFER_SIZE = 256 * 1024;
+    private final Path file;
+    private final FileChannel channel;
+    private final BlockingQueue<byte[]> pending;
+    private final Thread writer;
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public ExchangeLog(Path file, int queueCapacity) {
+        this.file = file;
+        this.pending = new ArrayBlockingQueue<>(queueCapacity);
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, ExchangeCodec.FILE_MAGIC));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.writer = new Thread(this::writeLoop, "restBooker-exchange-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public void append(Exchange exchange) {
+        // never block the calling request; a full queue means the disk cannot keep up
+        if (!pending.offer(ExchangeCodec.encode(exchange))) {
+            dropped.increment();
+        }
+    }
+
+    public String stats() {
+        return String.format("file=%s, written=%d, dropped=%d", file, written.sum(), dropped.sum());
+    }
+
+    @Override
+    public void close() {
+        try {
+            pending.put(CLOSE);
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeLoop() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try (channel) {
+            while (true) {
+                byte[] entry = buffer.position() == 0 ? pending.take() : pending.poll();
+                if (entry == null || entry == CLOSE || entry.length > buffer.remaining()) {
+                    flush(buffer);
+                }
+                if (entry == CLOSE) {
+                    return;
+                }
+                if (entry != null) {
+                    if (entry.length > buffer.capacity()) {
+                        channel.write(ByteBuffer.wrap(entry));
+                    } else {
+                        buffer.put(entry);
+                    }
+                    written.increment();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not write exchange log " + file, e);
+        }
+    }
+
+    private void flush(ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
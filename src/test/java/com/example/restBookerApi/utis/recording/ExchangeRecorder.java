@@ -0,0 +1,154 @@
+package com.example.restBookerApi.utis.recording;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+public final class ExchangeRecorder implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger("Restful-booker exchange recorder");
+    private static final ExchangeRecorder INSTANCE = create();
+    private static final byte[] NO_BODY = new byte[0];
+    private static final String REDACTED = "<redacted>";
+    private final RecordingMode mode;
+    private final ExchangeLog log;
+    private final ExchangeReplay replay;
+
+    public ExchangeRecorder(RecordingMode mode, Path file, int queueCapacity) {
+        this.mode = mode;
+        this.log = mode == RecordingMode.RECORD ? new ExchangeLog(file, queueCapacity) : null;
+        this.replay = mode == RecordingMode.REPLAY ? new ExchangeReplay(file) : null;
+    }
+
+    private static ExchangeRecorder create() {
+        ExchangeRecorder recorder = new ExchangeRecorder(RecordingMode.fromSystemProperties(),
+                Path.of(System.getProperty("restBooker.recording.file", "target/exchanges.rbx")),
+                Integer.getInteger("restBooker.recording.queueCapacity", 65_536));
+        if (recorder.mode == RecordingMode.RECORD) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                recorder.close();
+                LOGGER.info(() -> "Exchange log: " + recorder.log.stats());
+            }, "restBooker-exchange-log-close"));
+        }
+        return recorder;
+    }
+
+    public static ExchangeRecorder getInstance() {
+        return INSTANCE;
+    }
+
+    public RecordingMode getMode() {
+        return mode;
+    }
+
+    // headers are the ones the caller asked for and take part in matching, sentHeaders is what went on the wire
+    public void record(String method, String path, boolean authenticated, Object body, Map<String, String> headers,
+                       List<String[]> sentHeaders, int statusCode, List<String[]> responseHeaders, byte[] responseBody,
+                       long startEpochMillis, long durationNanos) {
+        byte[] requestBody = bodyBytes(body);
+        List<String[]> requestHeaders = new ArrayList<>(sentHeaders.size());
+        for (String[] header : sentHeaders) {
+            requestHeaders.add(new String[]{header[0], redact(header[0], header[1])});
+        }
+        log.append(new Exchange(method, path, authenticated, checksum(requestBody, headers), requestHeaders, requestBody,
+                statusCode, responseHeaders, responseBody == null ? NO_BODY : responseBody, startEpochMillis,
+                durationNanos));
+    }
+
+    public void record(String method, String path, boolean authenticated, Object body, Map<String, String> headers,
+                       List<String[]> sentHeaders, Response response, long startEpochMillis, long durationNanos) {
+        List<String[]> responseHeaders = new ArrayList<>();
+        for (Header header : response.getHeaders()) {
+            responseHeaders.add(new String[]{header.getName(), header.getValue()});
+        }
+        record(method, path, authenticated, body, headers, sentHeaders, response.statusCode(), responseHeaders,
+                response.asByteArray(), startEpochMillis, durationNanos);
+    }
+
+    public Response replay(String method, String path, boolean authenticated, Object body, Map<String, String> headers) {
+        Exchange exchange = replay.next(method, path, authenticated, checksum(bodyBytes(body), headers));
+        if (exchange == null) {
+            throw new IllegalStateException("No recorded exchange for " + method + " " + path);
+        }
+        return toResponse(exchange);
+    }
+
+    public String stats() {
+        return switch (mode) {
+            case RECORD -> log.stats();
+            case REPLAY -> replay.stats();
+            case OFF -> "off";
+        };
+    }
+
+    // writes out what is still queued, replaying needs nothing closed
+    @Override
+    public void close() {
+        if (log != null) {
+            log.close();
+        }
+    }
+
+    static Response toResponse(Exchange exchange) {
+        List<Header> headers = new ArrayList<>(exchange.responseHeaders().size());
+        String contentType = null;
+        for (String[] header : exchange.responseHeaders()) {
+            headers.add(new Header(header[0], header[1]));
+            if ("Content-Type".equalsIgnoreCase(header[0])) {
+                contentType = header[1];
+            }
+        }
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(exchange.statusCode())
+                .setStatusLine("HTTP/1.1 " + exchange.statusCode())
+                .setHeaders(new Headers(headers))
+                .setBody(exchange.responseBody());
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        return builder.build();
+    }
+
+    private static byte[] bodyBytes(Object body) {
+        if (body == null) {
+            return NO_BODY;
+        }
+        return body instanceof byte[] bytes ? bytes : body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // credentials change between runs, so only the presence of a credential header is logged and matched
+    static String redact(String name, String value) {
+        if (name.equalsIgnoreCase("Authorization")) {
+            int space = value.indexOf(' ');
+            return space < 0 ? REDACTED : value.substring(0, space + 1) + REDACTED;
+        }
+        if (name.equalsIgnoreCase("Cookie")) {
+            List<String> cookies = new ArrayList<>();
+            for (String cookie : value.split(";")) {
+                int equals = cookie.indexOf('=');
+                cookies.add((equals < 0 ? cookie : cookie.substring(0, equals)).trim() + '=' + REDACTED);
+            }
+            return String.join("; ", cookies);
+        }
+        return value;
+    }
+
+    private static long checksum(byte[] body, Map<String, String> headers) {
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        Map<String, String> sorted = new TreeMap<>();
+        headers.forEach((name, value) -> sorted.put(name.toLowerCase(Locale.ROOT), redact(name, value)));
+        sorted.forEach((name, value) -> crc.update((name + ':' + value + '\n').getBytes(StandardCharsets.UTF_8)));
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.restBookerApi.utis.recording;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ExchangeReplay {
+    private final Path file;
+    private final MappedByteBuffer log;
+    private final Map<String, Entries> index = new HashMap<>();
+    private final LongAdder served = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private int exchanges;
+
+    public ExchangeReplay(Path file) {
+        this.file = file;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Exchange log is too large to map: " + file);
+            }
+            this.log = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buildIndex();
+    }
+
+    public Exchange next(String method, String path, boolean authenticated, long requestChecksum) {
+        Entries entries = index.get(Exchange.key(method, path, authenticated, requestChecksum));
+        if (entries == null) {
+            misses.increment();
+            return null;
+        }
+        served.increment();
+        // serve repeated requests in recorded order and keep answering with the last one
+        int position = Math.min(entries.cursor.getAndIncrement(), entries.offsets.size() - 1);
+        return ExchangeCodec.decode(log.duplicate().position(entries.offsets.get(position)));
+    }
+
+    public String stats() {
+        return String.format("file=%s, exchanges=%d, keys=%d, served=%d, misses=%d",
+                file, exchanges, index.size(), served.sum(), misses.sum());
+    }
+
+    private void buildIndex() {
+        ByteBuffer reader = log.duplicate();
+        if (reader.remaining() < Integer.BYTES || reader.getInt() != ExchangeCodec.FILE_MAGIC) {
+            throw new IllegalStateException("Not an exchange log: " + file);
+        }
+        while (reader.remaining() >= Integer.BYTES) {
+            int length = reader.getInt();
+            int start = reader.position();
+            if (length <= 0 || length > reader.remaining()) {
+                // a truncated tail from an interrupted recording
+                break;
+            }
+            String key = ExchangeCodec.readKey(reader);
+            index.computeIfAbsent(key, ignored -> new Entries()).offsets.add(start);
+            exchanges++;
+            reader.position(start + length);
+        }
+    }
+
+    private static final class Entries {
+        private final List<Integer> offsets = new ArrayList<>();
+        private final AtomicInteger cursor = new AtomicInteger();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.restBookerApi.utis.recording;
+
+import java.util.Locale;
+
+public enum RecordingMode {
+    OFF,
+    RECORD,
+    REPLAY;
+
+    public static RecordingMode fromSystemProperties() {
+        return valueOf(System.getProperty("restBooker.recording.mode", "off").toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.restBookerApi.utis.requestbodies;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+final class BookingJsonWriter {
+    // org.json keeps members in a HashMap, so its output order is the HashMap iteration order of the keys.
+    private static final String[] BOOKING_FIELDS =
+            hashMapOrder("firstname", "lastname", "totalprice", "depositpaid", "bookingdates", "additionalneeds");
+    private static final String[] BOOKING_DATES_FIELDS = hashMapOrder("checkin", "checkout");
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+    private static final ThreadLocal<ByteSink> BUFFERS = ThreadLocal.withInitial(ByteSink::new);
+
+    private BookingJsonWriter() {
+    }
+
+    static byte[] write(String firstName,
+                        String lastName,
+                        int totalPrice,
+                        boolean depositPaid,
+                        BookingDates bookingDates,
+                        String additionalNeeds) {
+        ByteSink sink = BUFFERS.get();
+        sink.reset();
+        sink.write('{');
+        boolean first = true;
+        for (String field : BOOKING_FIELDS) {
+            switch (field) {
+                case "firstname" -> first = writeString(sink, first, field, firstName);
+                case "lastname" -> first = writeString(sink, first, field, lastName);
+                case "totalprice" -> {
+                    first = writeKey(sink, first, field);
+                    sink.writeInt(totalPrice);
+                }
+                case "depositpaid" -> {
+                    first = writeKey(sink, first, field);
+                    sink.writeAscii(depositPaid ? "true" : "false");
+                }
+                case "bookingdates" -> {
+                    if (bookingDates != null) {
+                        first = writeKey(sink, first, field);
+                        writeBookingDates(sink, bookingDates);
+                    }
+                }
+                case "additionalneeds" -> first = writeString(sink, first, field, additionalNeeds);
+                default -> throw new IllegalStateException("Unexpected field " + field);
+            }
+        }
+        sink.write('}');
+        return sink.toByteArray();
+    }
+
+    private static void writeBookingDates(ByteSink sink, BookingDates bookingDates) {
+        sink.write('{');
+        boolean first = true;
+        for (String field : BOOKING_DATES_FIELDS) {
+            String value = field.equals("checkin") ? bookingDates.getCheckIn() : bookingDates.getCheckOut();
+            first = writeString(sink, first, field, value);
+        }
+        sink.write('}');
+    }
+
+    private static boolean writeString(ByteSink sink, boolean first, String key, String value) {
+        if (value == null) {
+            return first;
+        }
+        writeKey(sink, first, key);
+        writeQuoted(sink, value);
+        return false;
+    }
+
+    private static boolean writeKey(ByteSink sink, boolean first, String key) {
+        if (!first) {
+            sink.write(',');
+        }
+        writeQuoted(sink, key);
+        sink.write(':');
+        return false;
+    }
+
+    // Mirrors JSONObject.quote followed by UTF-8 encoding.
+    private static void writeQuoted(ByteSink sink, String value) {
+        sink.write('"');
+        char previous = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\', '"' -> {
+                    sink.write('\\');
+                    sink.write(c);
+                }
+                case '/' -> {
+                    if (previous == '<') {
+                        sink.write('\\');
+                    }
+                    sink.write(c);
+                }
+                case '\b' -> sink.writeAscii("\\b");
+                case '\t' -> sink.writeAscii("\\t");
+                case '\n' -> sink.writeAscii("\\n");
+                case '\f' -> sink.writeAscii("\\f");
+                case '\r' -> sink.writeAscii("\\r");
+                default -> {
+                    if (c < ' ' || (c >= '\u0080' && c < '\u00a0') || (c >= '\u2000' && c < '\u2100')) {
+                        sink.writeAscii("\\u");
+                        sink.write(HEX[(c >> 12) & 0xF]);
+                        sink.write(HEX[(c >> 8) & 0xF]);
+                        sink.write(HEX[(c >> 4) & 0xF]);
+                        sink.write(HEX[c & 0xF]);
+                    } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                            && Character.isLowSurrogate(value.charAt(i + 1))) {
+                        sink.writeCodePoint(Character.toCodePoint(c, value.charAt(++i)));
+                    } else if (Character.isSurrogate(c)) {
+                        sink.write('?');
+                    } else {
+                        sink.writeCodePoint(c);
+                    }
+                }
+            }
+            previous = c;
+        }
+        sink.write('"');
+    }
+
+    private static String[] hashMapOrder(String... keys) {
+        Map<String, Boolean> map = new HashMap<>();
+        for (String key : keys) {
+            map.put(key, Boolean.TRUE);
+        }
+        return map.keySet().toArray(new String[0]);
+    }
+
+    private static final class ByteSink {
+        private byte[] bytes = new byte[256];
+        private int size;
+
+        void reset() {
+            size = 0;
+        }
+
+        void write(int b) {
+            if (size == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            bytes[size++] = (byte) b;
+        }
+
+        void writeAscii(String ascii) {
+            for (int i = 0; i < ascii.length(); i++) {
+                write(ascii.charAt(i));
+            }
+        }
+
+        void writeInt(int value) {
+            if (value < 0) {
+                write('-');
+                if (value == Integer.MIN_VALUE) {
+                    writeAscii("2147483648");
+                    return;
+                }
+                value = -value;
+            }
+            int divisor = 1;
+            while (value / divisor >= 10) {
+                divisor *= 10;
+            }
+            for (; divisor > 0; divisor /= 10) {
+                write('0' + value / divisor % 10);
+            }
+        }
+
+        void writeCodePoint(int codePoint) {
+            if (codePoint < 0x80) {
+                write(codePoint);
+            } else if (codePoint < 0x800) {
+                write(0xC0 | (codePoint >> 6));
+                write(0x80 | (codePoint & 0x3F));
+            } else if (codePoint < 0x10000) {
+                write(0xE0 | (codePoint >> 12));
+                write(0x80 | ((codePoint >> 6) & 0x3F));
+                write(0x80 | (codePoint & 0x3F));
+            } else {
+                write(0xF0 | (codePoint >> 18));
+                write(0x80 | ((codePoint >> 12) & 0x3F));
+                write(0x80 | ((codePoint >> 6) & 0x3F));
+                write(0x80 | (codePoint & 0x3F));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+}
@@ -10,7 +10,7 @@ public class BookingRequest {
     private final boolean depositPaid;
     private final BookingDates bookingDates;
     private final String additionalNeeds;
-    public JSONObject requestBody;
+    private volatile byte[] jsonBytes;
 
     private BookingRequest(String firstname,
                           String lastName,
@@ -29,7 +29,27 @@ public class BookingRequest {
         this.depositPaid = depositPaid;
         this.bookingDates = bookingDates;
         this.additionalNeeds = additionalNeeds;
-        this.requestBody = createMainBody();
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public byte[] toJsonBytes() {
+        byte[] bytes = jsonBytes;
+        if (bytes == null) {
+            bytes = BookingJsonWriter.write(firstName, lastName, totalPrice, depositPaid, bookingDates, additionalNeeds);
+            jsonBytes = bytes;
+        }
+        return bytes;
+    }
+
+    public JSONObject toJSONObject() {
+        return createMainBody();
     }
 
     public static class Builder {
@@ -83,7 +103,7 @@ public class BookingRequest {
         }
 
         public BookingRequest build() {
-            BookingRequest bookingRequest = new BookingRequest(
+            return new BookingRequest(
                     firstName,
                     lastName,
                     intFirstName,
@@ -92,8 +112,6 @@ public class BookingRequest {
                     depositPaid,
                     bookingDates,
                     additionalNeeds);
-            bookingRequest.createMainBody();
-            return bookingRequest;
         }
     }
 
@@ -112,7 +130,6 @@ public class BookingRequest {
         }
 
         data.put("additionalneeds", this.additionalNeeds);
-        this.requestBody = data;
         return data;
     }
 }
@@ -0,0 +1,87 @@
+package com.example.restBookerApi.utis.sharding;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.IDataProviderInterceptor;
+import org.testng.IDataProviderMethod;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+public class ShardListener implements IAlterSuiteListener, IMethodInterceptor, IDataProviderInterceptor {
+    private static final Logger LOGGER = Logger.getLogger("Restful-booker shard");
+    private static final Pattern NAME_PARAMETER = Pattern.compile("(create|update|partialUpdate)Booking\\w*(FirstName|LastName)");
+    private final ShardSettings settings = ShardSettings.fromSystemProperties();
+
+    // bookings are searched by name, so each shard creates and searches under its own prefix
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!settings.enabled()) {
+            return;
+        }
+        for (XmlSuite suite : suites) {
+            suite.setParameters(prefixNames(suite.getParameters()));
+            for (XmlTest test : suite.getTests()) {
+                test.setParameters(prefixNames(test.getLocalParameters()));
+            }
+        }
+    }
+
+    // plain methods go round-robin by qualified name, data-driven methods run everywhere on a slice of their rows
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!settings.enabled()) {
+            return methods;
+        }
+        TreeSet<String> names = new TreeSet<>();
+        for (IMethodInstance method : methods) {
+            if (!method.getMethod().isDataDriven()) {
+                names.add(method.getMethod().getQualifiedName());
+            }
+        }
+        List<String> ordered = new ArrayList<>(names);
+        List<IMethodInstance> owned = new ArrayList<>();
+        for (IMethodInstance method : methods) {
+            ITestNGMethod testMethod = method.getMethod();
+            if (testMethod.isDataDriven() || settings.owns(ordered.indexOf(testMethod.getQualifiedName()))) {
+                owned.add(method);
+            }
+        }
+        LOGGER.info(() -> String.format("Shard %s runs %d of %d methods in %s", settings, owned.size(), methods.size(),
+                context.getName()));
+        return owned;
+    }
+
+    @Override
+    public Iterator<Object[]> intercept(Iterator<Object[]> original, IDataProviderMethod dataProviderMethod,
+                                        ITestNGMethod method, ITestContext context) {
+        if (!settings.enabled()) {
+            return original;
+        }
+        List<Object[]> rows = new ArrayList<>();
+        for (int row = 0; original.hasNext(); row++) {
+            Object[] parameters = original.next();
+            if (settings.owns(row)) {
+                rows.add(parameters);
+            }
+        }
+        return rows.iterator();
+    }
+
+    private Map<String, String> prefixNames(Map<String, String> parameters) {
+        Map<String, String> prefixed = new HashMap<>(parameters);
+        prefixed.replaceAll((name, value) -> NAME_PARAMETER.matcher(name).matches() ? settings.name(value) : value);
+        return prefixed;
+    }
+}
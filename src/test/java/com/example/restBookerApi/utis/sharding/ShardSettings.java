@@ -0,0 +1,36 @@
+package com.example.restBookerApi.utis.sharding;
+
+public record ShardSettings(int index,
+                            int count,
+                            String namePrefix) {
+
+    public ShardSettings {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Shard index must be in [0, " + count + "), got " + index);
+        }
+    }
+
+    public static ShardSettings fromSystemProperties() {
+        int index = Integer.getInteger("restBooker.shard.index", 0);
+        int count = Integer.getInteger("restBooker.shard.count", 1);
+        return new ShardSettings(index, count,
+                System.getProperty("restBooker.shard.namePrefix", count > 1 ? "shard" + index + "-" : ""));
+    }
+
+    public boolean enabled() {
+        return count > 1;
+    }
+
+    public boolean owns(int partition) {
+        return Math.floorMod(partition, count) == index;
+    }
+
+    public String name(String name) {
+        return namePrefix + name;
+    }
+
+    @Override
+    public String toString() {
+        return (index + 1) + "/" + count;
+    }
+}
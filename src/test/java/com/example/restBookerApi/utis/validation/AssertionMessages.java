@@ -7,5 +7,6 @@ public class AssertionMessages {
     public static final String INVALID_DATE_FORMAT = "Wrong date format!";
     public static final String RESPONSE_BODY_EMPTY = "Response body is not an empty array";
     public static final String RESPONSE_BODY_SCHEMA_MISMATCH = "Response body does not match the expected schema";
+    public static final String RESPONSE_BODY_NOT_ARRAY_SCHEMA = "Response type does not describe an array";
     public static final String UNKNOWN_RESPONSE_TYPE = "Unknown response type";
 }
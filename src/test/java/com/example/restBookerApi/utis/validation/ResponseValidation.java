@@ -1,26 +1,39 @@
 package com.example.restBookerApi.utis.validation;
 
-import io.restassured.module.jsv.JsonSchemaValidator;
-import io.restassured.path.json.JsonPath;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.restassured.response.Response;
 import org.assertj.core.api.Assertions;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 public class ResponseValidation {
     private static final String DATE_PROPERTY_FORMAT = "^\\d{4}-\\d{2}-\\d{2}$";
     private static final String ERROR_MESSAGE = "Bad Credentials";
     private static final String APPLICATION_JSON_CHARSET_UTF_8 = "application/json";
+    private static final String BOOKING_ID_FIELD = "bookingid";
+    private static final boolean STREAMING = Boolean.getBoolean("restBooker.validation.streaming");
     private final Map<String, String> schemaFileNames = new HashMap<>();
+    private final SchemaCache schemaCache = SchemaCache.getInstance();
 
     public ResponseValidation() {
         schemaFileNames.put("createToken", "createTokenResponseSchema.json");
         schemaFileNames.put("createBooking", "createBookingResponseSchema.json");
         schemaFileNames.put("getBookingById", "getBookingByIdResponseSchema.json");
         schemaFileNames.put("getBooking", "getBookingResponseSchema.json");
-        schemaFileNames.put("updateBooking", "updateBookingResponseSchema.json");
-        schemaFileNames.put("partialUpdateBooking", "partialUpdateBookingResponseSchema.json");
+        schemaFileNames.put("updateBooking", "updateBookingRequestSchema.json");
+        schemaFileNames.put("partialUpdateBooking", "partialUpdateBookingRequestSchema.json");
+    }
+
+    public static boolean streamingEnabled() {
+        return STREAMING;
+    }
+
+    public ValidationBatch check(Response response) {
+        return check(ValidatedResponse.of(response));
+    }
+
+    public ValidationBatch check(ValidatedResponse response) {
+        return new ValidationBatch(this, response);
     }
 
     public void validateResponseHeaders(Response response) {
@@ -29,42 +42,90 @@ public class ResponseValidation {
                 .contains(APPLICATION_JSON_CHARSET_UTF_8);
     }
 
+    public void validateResponseHeaders(ValidatedResponse response) {
+        validateResponseHeaders(response.getResponse());
+    }
+
     public void validateResponseStatusCode(final Response response, int expectedStatusCode) {
         Assertions.assertThat(response.statusCode())
                 .as(AssertionMessages.INVALID_STATUS_CODE)
                 .isEqualTo(expectedStatusCode);
     }
 
+    public void validateResponseStatusCode(final ValidatedResponse response, int expectedStatusCode) {
+        validateResponseStatusCode(response.getResponse(), expectedStatusCode);
+    }
+
     public void validateResponseErrorMessage(final Response response) {
-        Assertions.assertThat(response.jsonPath().getString("reason"))
+        validateResponseErrorMessage(ValidatedResponse.of(response));
+    }
+
+    public void validateResponseErrorMessage(final ValidatedResponse response) {
+        Assertions.assertThat(response.getString("reason"))
                 .as(AssertionMessages.ERROR_MESSAGE_NOT_DISPLAYED)
                 .isEqualTo(ERROR_MESSAGE);
     }
 
     public void validateResponseDatePropertyFormat(final Response response, String date) {
-        Assertions.assertThat(response.jsonPath().getString(date))
+        validateResponseDatePropertyFormat(ValidatedResponse.of(response), date);
+    }
+
+    public void validateResponseDatePropertyFormat(final ValidatedResponse response, String date) {
+        Assertions.assertThat(response.getString(date))
                 .as(AssertionMessages.INVALID_DATE_FORMAT)
                 .isEqualTo(DATE_PROPERTY_FORMAT);
     }
 
     public void validateResponseBodyIsEmptyArray(final Response response) {
-        JsonPath jsonPath = response.jsonPath();
-        List<Object> responseBodyList = jsonPath.getList("");
+        validateResponseBodyIsEmptyArray(ValidatedResponse.of(response));
+    }
+
+    public void validateResponseBodyIsEmptyArray(final ValidatedResponse response) {
+        boolean emptyArray;
+        if (STREAMING) {
+            emptyArray = StreamingArrayValidator.isEmptyArray(response.getResponse().asInputStream());
+        } else {
+            JsonNode body = response.body();
+            emptyArray = body.isArray() && body.isEmpty();
+        }
 
-        Assertions.assertThat(responseBodyList)
+        Assertions.assertThat(emptyArray)
                 .as(AssertionMessages.RESPONSE_BODY_EMPTY)
-                .isEmpty();
+                .isTrue();
     }
 
     public void validateResponseBodySchema(final Response response, String responseType) {
-        try {
-            response.then().assertThat()
-                    .body(JsonSchemaValidator.matchesJsonSchemaInClasspath(getResponseSchemaFileName(responseType)));
-        } catch (AssertionError e) {
+        validateResponseBodySchema(ValidatedResponse.of(response), responseType);
+    }
+
+    public void validateResponseBodySchema(final ValidatedResponse response, String responseType) {
+        String schemaFileName = getResponseSchemaFileName(responseType);
+        if (STREAMING && schemaCache.itemValidator(schemaFileName) != null) {
+            validateResponseBodyArraySchema(response.getResponse(), responseType);
+        } else if (!schemaCache.matches(schemaFileName, response.body())) {
             throw new AssertionError(AssertionMessages.RESPONSE_BODY_SCHEMA_MISMATCH);
         }
     }
 
+    public StreamedArray validateResponseBodyArraySchema(final Response response, String responseType) {
+        StreamedArray array = streamArray(response, responseType);
+        if (!array.isValid()) {
+            throw new AssertionError(AssertionMessages.RESPONSE_BODY_SCHEMA_MISMATCH + ": "
+                    + String.join("; ", array.failures()));
+        }
+        return array;
+    }
+
+    public StreamedArray streamArray(final Response response, String responseType) {
+        String schemaFileName = getResponseSchemaFileName(responseType);
+        SchemaValidator itemValidator = schemaCache.itemValidator(schemaFileName);
+        if (itemValidator == null) {
+            throw new IllegalArgumentException(AssertionMessages.RESPONSE_BODY_NOT_ARRAY_SCHEMA + ": " + responseType);
+        }
+        return new StreamingArrayValidator(schemaCache.validator(schemaFileName), itemValidator, BOOKING_ID_FIELD)
+                .validate(response.asInputStream());
+    }
+
     private String getResponseSchemaFileName(String responseType) {
         String schemaFileName = schemaFileNames.get(responseType);
         if (schemaFileName == null) {
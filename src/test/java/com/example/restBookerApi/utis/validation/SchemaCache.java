@@ -0,0 +1,130 @@
+package com.example.restBookerApi.utis.validation;
+
+import com.example.restBookerApi.utis.validation.generated.GeneratedSchemaValidators;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+public final class SchemaCache {
+    private static final Logger LOGGER = Logger.getLogger("Restful-booker schema cache");
+    private static final SchemaCache INSTANCE = new SchemaCache();
+    private static final String ITEMS = "#/items";
+    private final boolean useGenerated =
+            Boolean.parseBoolean(System.getProperty("restBooker.validation.generated", "true"));
+    private final JsonSchemaFactory schemaFactory = JsonSchemaFactory.byDefault();
+    private final Map<String, JsonSchema> schemas = new ConcurrentHashMap<>();
+    private final Map<String, Optional<SchemaValidator>> validators = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder compileNanos = new LongAdder();
+    private final LongAdder generatedChecks = new LongAdder();
+    private final LongAdder genericChecks = new LongAdder();
+
+    private SchemaCache() {
+    }
+
+    public static SchemaCache getInstance() {
+        return INSTANCE;
+    }
+
+    public JsonSchema getSchema(String schemaFileName) {
+        JsonSchema schema = schemas.get(schemaFileName);
+        if (schema != null) {
+            hits.increment();
+            return schema;
+        }
+        return schemas.computeIfAbsent(schemaFileName, this::compile);
+    }
+
+    // generated from the schema at build time when possible, the generic validator otherwise
+    public SchemaValidator validator(String schemaFileName) {
+        return validators.computeIfAbsent(schemaFileName, this::createValidator).orElseThrow();
+    }
+
+    // validator for the elements of an array schema, null when the schema does not describe an array
+    public SchemaValidator itemValidator(String schemaFileName) {
+        return validators.computeIfAbsent(schemaFileName + ITEMS, this::createValidator).orElse(null);
+    }
+
+    public boolean matches(String schemaFileName, String body) {
+        try {
+            return matches(schemaFileName, JsonLoader.fromString(body));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public boolean matches(String schemaFileName, JsonNode body) {
+        return validator(schemaFileName).matches(body);
+    }
+
+    public String stats() {
+        return String.format("schemas=%d, hits=%d, misses=%d, compileTime=%.3f ms, generatedChecks=%d, genericChecks=%d",
+                schemas.size(), hits.sum(), misses.sum(), compileNanos.sum() / 1_000_000.0, generatedChecks.sum(),
+                genericChecks.sum());
+    }
+
+    private Optional<SchemaValidator> createValidator(String key) {
+        SchemaValidator generated = useGenerated ? GeneratedSchemaValidators.forSchema(key) : null;
+        if (generated != null) {
+            return Optional.of(body -> {
+                generatedChecks.increment();
+                return generated.matches(body);
+            });
+        }
+        JsonSchema schema;
+        if (key.endsWith(ITEMS)) {
+            JsonNode root = loadSchema(key.substring(0, key.length() - ITEMS.length()));
+            if (!root.has("items")) {
+                return Optional.empty();
+            }
+            schema = schemas.computeIfAbsent(key, ignored -> compile(key, root, "/items"));
+        } else {
+            schema = getSchema(key);
+        }
+        return Optional.of(body -> {
+            genericChecks.increment();
+            try {
+                return schema.validate(body).isSuccess();
+            } catch (ProcessingException e) {
+                return false;
+            }
+        });
+    }
+
+    private JsonSchema compile(String schemaFileName) {
+        return compile(schemaFileName, loadSchema(schemaFileName), "");
+    }
+
+    private JsonSchema compile(String key, JsonNode root, String pointer) {
+        long start = System.nanoTime();
+        try {
+            JsonSchema schema = schemaFactory.getJsonSchema(root, pointer);
+            long elapsed = System.nanoTime() - start;
+            misses.increment();
+            compileNanos.add(elapsed);
+            LOGGER.fine(() -> String.format("Compiled %s in %.3f ms", key, elapsed / 1_000_000.0));
+            return schema;
+        } catch (ProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static JsonNode loadSchema(String schemaFileName) {
+        try {
+            return JsonLoader.fromResource("/" + schemaFileName);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
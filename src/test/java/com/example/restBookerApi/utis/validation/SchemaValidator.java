@@ -0,0 +1,9 @@
+package com.example.restBookerApi.utis.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+@FunctionalInterface
+public interface SchemaValidator {
+
+    boolean matches(JsonNode body);
+}
@@ -0,0 +1,10 @@
+package com.example.restBookerApi.utis.validation;
+
+import java.util.List;
+
+public record StreamedArray(boolean isArray, int count, IntList ids, List<String> failures) {
+
+    public boolean isValid() {
+        return isArray && failures.isEmpty();
+    }
+}
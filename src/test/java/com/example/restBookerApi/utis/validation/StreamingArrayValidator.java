@@ -0,0 +1,85 @@
+package com.example.restBookerApi.utis.validation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.github.fge.jackson.JacksonUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+// Walks a JSON array token by token and keeps at most one chunk of items in memory, so memory does not grow with
+// the array (apart from the collected ids, 4 bytes each). A chunk is validated against the array schema in one call,
+// which costs far less than one validator call per item; only a failing chunk is validated item by item.
+public final class StreamingArrayValidator {
+    private static final ObjectMapper MAPPER = JacksonUtils.newMapper();
+    private static final int CHUNK_SIZE = 512;
+    private static final int MAX_REPORTED_FAILURES = 10;
+    private final SchemaValidator arrayValidator;
+    private final SchemaValidator itemValidator;
+    private final String idField;
+
+    public StreamingArrayValidator(SchemaValidator arrayValidator, SchemaValidator itemValidator, String idField) {
+        this.arrayValidator = arrayValidator;
+        this.itemValidator = itemValidator;
+        this.idField = idField;
+    }
+
+    public StreamedArray validate(InputStream body) {
+        List<String> failures = new ArrayList<>();
+        IntList ids = new IntList();
+        ArrayNode chunk = MAPPER.createArrayNode();
+        int count = 0;
+        try (JsonParser parser = MAPPER.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return new StreamedArray(false, 0, ids, List.of("body is not a JSON array"));
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    failures.add("array is not terminated");
+                    break;
+                }
+                JsonNode item = parser.readValueAsTree();
+                JsonNode id = idField == null ? null : item.get(idField);
+                if (id != null && id.canConvertToInt()) {
+                    ids.add(id.intValue());
+                }
+                chunk.add(item);
+                count++;
+                if (chunk.size() == CHUNK_SIZE) {
+                    validateChunk(chunk, count - chunk.size(), failures);
+                    chunk.removeAll();
+                }
+            }
+            validateChunk(chunk, count - chunk.size(), failures);
+        } catch (IOException e) {
+            failures.add("item " + count + ": " + e.getMessage());
+        }
+        return new StreamedArray(true, count, ids, failures);
+    }
+
+    private void validateChunk(ArrayNode chunk, int firstIndex, List<String> failures) {
+        if (chunk.isEmpty() || failures.size() >= MAX_REPORTED_FAILURES || arrayValidator.matches(chunk)) {
+            return;
+        }
+        for (int i = 0; i < chunk.size() && failures.size() < MAX_REPORTED_FAILURES; i++) {
+            if (!itemValidator.matches(chunk.get(i))) {
+                failures.add("item " + (firstIndex + i) + " does not match the item schema: " + chunk.get(i));
+            }
+        }
+    }
+
+    // only reads up to the second token, however long the array is
+    public static boolean isEmptyArray(InputStream body) {
+        try (JsonParser parser = MAPPER.createParser(body)) {
+            return parser.nextToken() == JsonToken.START_ARRAY && parser.nextToken() == JsonToken.END_ARRAY;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.restBookerApi.utis.validation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.github.fge.jackson.JacksonUtils;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+
+public final class ValidatedResponse {
+    private static final ObjectMapper MAPPER = JacksonUtils.newMapper();
+    private final Response response;
+    private JsonNode body;
+
+    private ValidatedResponse(Response response) {
+        this.response = response;
+    }
+
+    public static ValidatedResponse of(Response response) {
+        return new ValidatedResponse(response);
+    }
+
+    public Response getResponse() {
+        return response;
+    }
+
+    public int statusCode() {
+        return response.statusCode();
+    }
+
+    public String contentType() {
+        return response.contentType();
+    }
+
+    public JsonNode body() {
+        if (body == null) {
+            body = parse(response.asByteArray());
+        }
+        return body;
+    }
+
+    public String getString(String field) {
+        JsonNode node = body().path(field);
+        return node.isValueNode() ? node.asText() : null;
+    }
+
+    // reads one top-level field off a token stream and stops there, for callers that leave validating the body to others
+    public static String scanString(Response response, String field) {
+        byte[] bytes = response.asByteArray();
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try (JsonParser parser = MAPPER.createParser(bytes)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (name.equals(field)) {
+                    return value.isScalarValue() && value != JsonToken.VALUE_NULL ? parser.getText() : null;
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static JsonNode parse(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return MissingNode.getInstance();
+        }
+        try {
+            JsonNode node = MAPPER.readTree(bytes);
+            return node == null ? MissingNode.getInstance() : node;
+        } catch (IOException e) {
+            return MissingNode.getInstance();
+        }
+    }
+}
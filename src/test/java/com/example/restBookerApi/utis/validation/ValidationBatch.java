@@ -0,0 +1,89 @@
+package com.example.restBookerApi.utis.validation;
+
+import com.example.restBookerApi.utis.jfr.ApiCallTiming;
+import com.example.restBookerApi.utis.jfr.ResponseValidationEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public final class ValidationBatch {
+    private final ResponseValidation validation;
+    private final ValidatedResponse response;
+    private final List<Consumer<ValidatedResponse>> checks = new ArrayList<>();
+
+    ValidationBatch(ResponseValidation validation, ValidatedResponse response) {
+        this.validation = validation;
+        this.response = response;
+    }
+
+    public ValidationBatch headers() {
+        checks.add(validation::validateResponseHeaders);
+        return this;
+    }
+
+    public ValidationBatch statusCode(int expectedStatusCode) {
+        checks.add(response -> validation.validateResponseStatusCode(response, expectedStatusCode));
+        return this;
+    }
+
+    public ValidationBatch errorMessage() {
+        checks.add(validation::validateResponseErrorMessage);
+        return this;
+    }
+
+    public ValidationBatch datePropertyFormat(String date) {
+        checks.add(response -> validation.validateResponseDatePropertyFormat(response, date));
+        return this;
+    }
+
+    public ValidationBatch emptyArray() {
+        checks.add(validation::validateResponseBodyIsEmptyArray);
+        return this;
+    }
+
+    public ValidationBatch schema(String responseType) {
+        checks.add(response -> validation.validateResponseBodySchema(response, responseType));
+        return this;
+    }
+
+    public ValidatedResponse verify() {
+        ResponseValidationEvent event = new ResponseValidationEvent();
+        event.begin();
+        List<AssertionError> failures = new ArrayList<>();
+        for (Consumer<ValidatedResponse> check : checks) {
+            try {
+                check.accept(response);
+            } catch (AssertionError e) {
+                failures.add(e);
+            }
+        }
+        commit(event, failures.size());
+        if (failures.size() == 1) {
+            throw failures.get(0);
+        }
+        if (!failures.isEmpty()) {
+            StringBuilder message = new StringBuilder(failures.size() + " checks failed:");
+            failures.forEach(failure -> message.append(System.lineSeparator()).append(failure.getMessage()));
+            AssertionError combined = new AssertionError(message.toString());
+            failures.forEach(combined::addSuppressed);
+            throw combined;
+        }
+        return response;
+    }
+
+    private void commit(ResponseValidationEvent event, int failures) {
+        event.end();
+        if (event.shouldCommit()) {
+            ApiCallTiming call = ApiCallTiming.last();
+            if (call != null) {
+                event.callId = call.getCallId();
+                event.method = call.getMethod();
+                event.pathTemplate = call.getPathTemplate();
+            }
+            event.checks = checks.size();
+            event.failures = failures;
+            event.commit();
+        }
+    }
+}